@@ -7,7 +7,8 @@ import java.time.Instant;
 @Table(name = "client_profiles")
 public class ClientProfile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_profiles_seq")
+    @SequenceGenerator(name = "client_profiles_seq", sequenceName = "client_profiles_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(optional = false)
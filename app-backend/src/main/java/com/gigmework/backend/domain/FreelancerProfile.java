@@ -7,7 +7,8 @@ import java.time.Instant;
 @Table(name = "freelancer_profiles")
 public class FreelancerProfile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "freelancer_profiles_seq")
+    @SequenceGenerator(name = "freelancer_profiles_seq", sequenceName = "freelancer_profiles_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(optional = false)
@@ -0,0 +1,35 @@
+package com.gigmework.backend.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * Per-freelancer job totals behind the home dashboard. Changed only by atomic UPDATEs in
+ * FreelancerStatsRepository when a job is assigned or completed; drift is repaired by CounterReconciler.
+ */
+@Entity
+@Table(name = "freelancer_stats")
+public class FreelancerStats {
+    @Id
+    @Column(name = "freelancer_id")
+    private Long freelancerId; // = users.id
+
+    @Column(name = "assigned_count", nullable = false)
+    private long assignedCount; // every job ever assigned, completed ones included
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "total_budget_cents", nullable = false)
+    private long totalBudgetCents;
+
+    @Column(name = "distinct_clients", nullable = false)
+    private long distinctClients;
+
+    protected FreelancerStats() {}
+
+    public Long getFreelancerId() { return freelancerId; }
+    public long getAssignedCount() { return assignedCount; }
+    public long getCompletedCount() { return completedCount; }
+    public long getTotalBudgetCents() { return totalBudgetCents; }
+    public long getDistinctClients() { return distinctClients; }
+}
@@ -1,13 +1,15 @@
 package com.gigmework.backend.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.Instant;
 
 @Entity
 @Table(name = "jobs")
 public class Job {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -34,6 +36,11 @@ public class Job {
     @Column(nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version; // also bumped by JobRepository's conditional updates
+
     protected Job() {}
 
     public Job(String title, String description, UserAccount clientOwner) {
@@ -55,6 +62,7 @@ public class Job {
     public Instant getCreatedAt() { return createdAt; }
     public long getBudgetCents() { return budgetCents; }
     public com.gigmework.backend.domain.JobStatus getStatus() { return status; }
+    public long getVersion() { return version; }
 
     public void assignFreelancer(UserAccount freelancer) { this.assignedFreelancer = freelancer; this.status = com.gigmework.backend.domain.JobStatus.ASSIGNED; }
     public void markCompleted() { this.status = com.gigmework.backend.domain.JobStatus.COMPLETED; }
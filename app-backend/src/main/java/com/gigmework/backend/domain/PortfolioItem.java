@@ -6,7 +6,9 @@ import java.time.Instant;
 @Entity
 @Table(name = "portfolio_items")
 public class PortfolioItem {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "portfolio_items_seq")
+    @SequenceGenerator(name = "portfolio_items_seq", sequenceName = "portfolio_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -6,7 +6,9 @@ import java.time.Instant;
 @Entity
 @Table(name = "post_likes", uniqueConstraints = @UniqueConstraint(columnNames = {"post_id","user_id"}))
 public class PostLike {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_likes_seq")
+    @SequenceGenerator(name = "post_likes_seq", sequenceName = "post_likes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 @Entity
 @Table(name = "post_media")
 public class PostMedia {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_media_seq")
+    @SequenceGenerator(name = "post_media_seq", sequenceName = "post_media_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
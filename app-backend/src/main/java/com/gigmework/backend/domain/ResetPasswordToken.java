@@ -8,7 +8,8 @@ import java.util.UUID;
 @Table(name = "password_reset_tokens", indexes = @Index(columnList = "token", unique = true))
 public class ResetPasswordToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "password_reset_tokens_seq")
+    @SequenceGenerator(name = "password_reset_tokens_seq", sequenceName = "password_reset_tokens_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
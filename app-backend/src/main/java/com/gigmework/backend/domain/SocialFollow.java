@@ -6,7 +6,9 @@ import java.time.Instant;
 @Entity
 @Table(name = "social_follow", uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id","target_id"}))
 public class SocialFollow {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "social_follow_seq")
+    @SequenceGenerator(name = "social_follow_seq", sequenceName = "social_follow_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
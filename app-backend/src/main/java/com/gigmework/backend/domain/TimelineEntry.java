@@ -0,0 +1,49 @@
+package com.gigmework.backend.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/** One post id delivered to a follower's home timeline (fan-out-on-write). */
+@Entity
+@Table(name = "home_timeline", indexes = @Index(name = "idx_home_timeline_user_created", columnList = "user_id, created_at DESC, post_id DESC"))
+@IdClass(TimelineEntry.Key.class)
+public class TimelineEntry {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt; // post creation time, copied so the timeline sorts without joining posts
+
+    protected TimelineEntry() {}
+    public TimelineEntry(Long userId, Long postId, Instant createdAt) {
+        this.userId = userId; this.postId = postId; this.createdAt = createdAt;
+    }
+
+    public Long getUserId() { return userId; }
+    public Long getPostId() { return postId; }
+    public Instant getCreatedAt() { return createdAt; }
+
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long userId;
+        private Long postId;
+
+        protected Key() {}
+        public Key(Long userId, Long postId) { this.userId = userId; this.postId = postId; }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && Objects.equals(userId, k.userId) && Objects.equals(postId, k.postId);
+        }
+        @Override
+        public int hashCode() { return Objects.hash(userId, postId); }
+    }
+}
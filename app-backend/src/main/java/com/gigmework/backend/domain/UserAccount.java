@@ -1,13 +1,15 @@
 package com.gigmework.backend.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.Instant;
 
 @Entity
 @Table(name = "users", uniqueConstraints = @UniqueConstraint(columnNames = "email"))
 public class UserAccount {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 160)
@@ -23,6 +25,19 @@ public class UserAccount {
     @Column(nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
+    // Denormalized social counters: changed only by atomic UPDATEs in UserAccountRepository, never via the entity
+    @Column(name = "follower_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long followingCount;
+
+    @Column(name = "post_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long postCount;
+
     @OneToOne(mappedBy = "user", fetch = FetchType.LAZY)
     private FreelancerProfile freelancerProfile;
 
@@ -42,6 +57,9 @@ public class UserAccount {
     public String getPassword() { return password; }
     public UserRole getRole() { return role; }
     public Instant getCreatedAt() { return createdAt; }
+    public long getFollowerCount() { return followerCount; }
+    public long getFollowingCount() { return followingCount; }
+    public long getPostCount() { return postCount; }
     public boolean hasFreelancerProfile() { return freelancerProfile != null; }
     public boolean hasClientProfile() { return clientProfile != null; }
     public FreelancerProfile getFreelancerProfile() { return freelancerProfile; }
@@ -0,0 +1,4 @@
+package com.gigmework.backend.event;
+
+/** Published inside the follow/unfollow transaction; {@code following} is the new state of the edge. */
+public record FollowChangedEvent(Long followerId, Long targetId, boolean following) {}
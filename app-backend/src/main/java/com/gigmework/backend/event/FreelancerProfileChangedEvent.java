@@ -0,0 +1,4 @@
+package com.gigmework.backend.event;
+
+/** Published inside the profile upsert transaction; listeners re-read the profile after commit. */
+public record FreelancerProfileChangedEvent(Long userId) {}
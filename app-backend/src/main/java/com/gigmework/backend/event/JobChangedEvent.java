@@ -0,0 +1,7 @@
+package com.gigmework.backend.event;
+
+/**
+ * Published inside the transaction that creates a job or changes its assignment/status; listeners re-read it after
+ * commit. {@code freelancerId} is the assigned freelancer, null while the job is unassigned.
+ */
+public record JobChangedEvent(Long jobId, Long freelancerId) {}
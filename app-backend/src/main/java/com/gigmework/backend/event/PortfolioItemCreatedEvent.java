@@ -0,0 +1,4 @@
+package com.gigmework.backend.event;
+
+/** Published when a portfolio item is saved for a freelancer. */
+public record PortfolioItemCreatedEvent(Long freelancerId, Long itemId) {}
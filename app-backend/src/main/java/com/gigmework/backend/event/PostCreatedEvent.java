@@ -0,0 +1,6 @@
+package com.gigmework.backend.event;
+
+import java.time.Instant;
+
+/** Published inside the createPost transaction; listeners that push data out should run after commit. */
+public record PostCreatedEvent(Long postId, Long authorId, Instant createdAt) {}
@@ -0,0 +1,4 @@
+package com.gigmework.backend.event;
+
+/** A like or unlike that changed the state of (post, user), published by the like buffer before it is flushed to post_likes. */
+public record PostLikeChangedEvent(Long postId, Long userId, boolean liked) {}
@@ -0,0 +1,6 @@
+package com.gigmework.backend.event;
+
+import java.util.Map;
+
+/** Rows a like flush actually inserted (positive) or deleted (negative) in post_likes, per post id. */
+public record PostLikesSettledEvent(Map<Long, Long> applied) {}
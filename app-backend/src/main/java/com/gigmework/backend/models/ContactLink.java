@@ -7,7 +7,8 @@ import jakarta.persistence.*;
 public class ContactLink {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_links_seq")
+    @SequenceGenerator(name = "contact_links_seq", sequenceName = "contact_links_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,7 @@
+package com.gigmework.backend.repo;
+
+/**
+ * Read-only projection of the few {@code freelancer_profiles} columns shown on creator cards and matched by search.
+ * Selected directly (no entity, no TEXT columns, no lazy {@code UserAccount}).
+ */
+public record CreatorCard(Long userId, String name, String title, String avatarUrl, String skillsCsv) {}
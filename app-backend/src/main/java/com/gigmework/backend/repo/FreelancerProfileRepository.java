@@ -7,14 +7,20 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FreelancerProfileRepository extends JpaRepository<FreelancerProfile, Long> {
+    // constructor expression for CreatorCard, shared by the card/search/suggestion reads below
+    String CARD = "new com.gigmework.backend.repo.CreatorCard(f.user.id, f.displayName, f.professionalTitle, f.imageUrl, f.skillsCsv)";
+
     Optional<FreelancerProfile> findByUser(UserAccount user);
 
-    @Query("""
-        SELECT f FROM FreelancerProfile f
+    Optional<FreelancerProfile> findByUserId(Long userId);
+
+    @Query("SELECT " + CARD + """
+         FROM FreelancerProfile f
         WHERE (
             LOWER(f.displayName) LIKE LOWER(CONCAT(:q, '%')) OR
             LOWER(f.professionalTitle) LIKE LOWER(CONCAT(:q, '%')) OR
@@ -22,14 +28,37 @@ public interface FreelancerProfileRepository extends JpaRepository<FreelancerPro
         )
         ORDER BY f.displayName ASC
         """)
-    List<FreelancerProfile> searchPrefix(@Param("q") String q, Pageable pageable);
+    List<CreatorCard> searchPrefix(@Param("q") String q, Pageable pageable);
 
-    @Query("""
-        SELECT f FROM FreelancerProfile f
+    @Query("SELECT " + CARD + """
+         FROM FreelancerProfile f
         WHERE f.user.id <> :viewerId AND f.user.id NOT IN (
             SELECT sf.target.id FROM SocialFollow sf WHERE sf.follower.id = :viewerId
         )
         ORDER BY f.id ASC
         """)
-    List<FreelancerProfile> suggestions(@Param("viewerId") Long viewerId, Pageable pageable);
+    List<CreatorCard> suggestions(@Param("viewerId") Long viewerId, Pageable pageable);
+
+    @Query("SELECT " + CARD + " FROM FreelancerProfile f")
+    List<CreatorCard> findCards();
+
+    @Query("SELECT " + CARD + " FROM FreelancerProfile f WHERE f.user.id = :userId")
+    Optional<CreatorCard> findCardByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT " + CARD + " FROM FreelancerProfile f WHERE f.user.id IN :userIds")
+    List<CreatorCard> findCardsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // [id, userId, displayName, professionalTitle, skillsCsv] in id order, for (re)building search indexes
+    @Query("SELECT f.id, f.user.id, f.displayName, f.professionalTitle, f.skillsCsv FROM FreelancerProfile f WHERE f.id > :afterId ORDER BY f.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT f.id, f.user.id, f.displayName, f.professionalTitle, f.skillsCsv FROM FreelancerProfile f WHERE f.user.id = :userId")
+    List<Object[]> findSearchFieldsByUserId(@Param("userId") Long userId);
+
+    // [id, userId, hourlyRateCents, available, currency, location, createdAt] for the columnar browse directory
+    @Query("SELECT f.id, f.user.id, f.hourlyRateCents, f.available, f.currency, f.location, f.createdAt FROM FreelancerProfile f WHERE f.id > :afterId ORDER BY f.id")
+    List<Object[]> findDirectoryRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT f.id, f.user.id, f.hourlyRateCents, f.available, f.currency, f.location, f.createdAt FROM FreelancerProfile f WHERE f.user.id = :userId")
+    List<Object[]> findDirectoryRowByUserId(@Param("userId") Long userId);
 }
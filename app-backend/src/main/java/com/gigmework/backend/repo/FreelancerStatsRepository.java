@@ -0,0 +1,55 @@
+package com.gigmework.backend.repo;
+
+import com.gigmework.backend.domain.FreelancerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface FreelancerStatsRepository extends JpaRepository<FreelancerStats, Long> {
+    @Modifying
+    @Query(value = """
+        insert into freelancer_stats (freelancer_id, assigned_count, completed_count, total_budget_cents, distinct_clients)
+        values (:freelancerId, 0, 0, 0, 0) on conflict do nothing
+        """, nativeQuery = true)
+    int ensureRow(Long freelancerId);
+
+    // Serializes stats updates of one freelancer; statements after it see every assignment committed before it
+    @Query(value = "select freelancer_id from freelancer_stats where freelancer_id = :freelancerId for update", nativeQuery = true)
+    Long lockRow(Long freelancerId);
+
+    // distinct_clients is recounted rather than incremented: call after lockRow, or concurrent assignments race on it
+    @Modifying
+    @Query("""
+        update FreelancerStats s set s.assignedCount = s.assignedCount + 1, s.totalBudgetCents = s.totalBudgetCents + :budgetCents,
+            s.distinctClients = (select count(distinct j.clientOwner.id) from Job j where j.assignedFreelancer.id = :freelancerId)
+        where s.freelancerId = :freelancerId
+        """)
+    int recordAssignment(Long freelancerId, long budgetCents);
+
+    @Modifying
+    @Query("update FreelancerStats s set s.completedCount = s.completedCount + 1 where s.freelancerId = :freelancerId")
+    int recordCompletion(Long freelancerId);
+
+    // Drift repair: rows for freelancers with jobs but no stats yet, then set-based recount of rows that disagree
+    @Modifying
+    @Query(value = """
+        insert into freelancer_stats (freelancer_id, assigned_count, completed_count, total_budget_cents, distinct_clients)
+        select distinct j.freelancer_id, 0, 0, 0, 0 from jobs j
+        where j.freelancer_id is not null and not exists (select 1 from freelancer_stats s where s.freelancer_id = j.freelancer_id)
+        """, nativeQuery = true)
+    int insertMissing();
+
+    @Modifying
+    @Query(value = """
+        update freelancer_stats s set
+            assigned_count = (select count(*) from jobs j where j.freelancer_id = s.freelancer_id),
+            completed_count = (select count(*) from jobs j where j.freelancer_id = s.freelancer_id and j.status = 'COMPLETED'),
+            total_budget_cents = (select coalesce(sum(j.budget_cents), 0) from jobs j where j.freelancer_id = s.freelancer_id),
+            distinct_clients = (select count(distinct j.client_id) from jobs j where j.freelancer_id = s.freelancer_id)
+        where s.assigned_count <> (select count(*) from jobs j where j.freelancer_id = s.freelancer_id)
+           or s.completed_count <> (select count(*) from jobs j where j.freelancer_id = s.freelancer_id and j.status = 'COMPLETED')
+           or s.total_budget_cents <> (select coalesce(sum(j.budget_cents), 0) from jobs j where j.freelancer_id = s.freelancer_id)
+           or s.distinct_clients <> (select count(distinct j.client_id) from jobs j where j.freelancer_id = s.freelancer_id)
+        """, nativeQuery = true)
+    int reconcile();
+}
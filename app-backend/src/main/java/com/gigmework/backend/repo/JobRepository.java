@@ -3,20 +3,77 @@ package com.gigmework.backend.repo;
 import com.gigmework.backend.domain.Job;
 import com.gigmework.backend.domain.JobStatus;
 import com.gigmework.backend.domain.UserAccount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
+    // constructor expression for JobRow; left joins keep jobs without an owner or assignee
+    String ROW = "new com.gigmework.backend.repo.JobRow(j.id, j.title, j.description, c.email, f.email, j.budgetCents, j.status, j.createdAt)"
+            + " FROM Job j LEFT JOIN j.clientOwner c LEFT JOIN j.assignedFreelancer f";
+
     // Recent jobs assigned to a freelancer
-    List<Job> findTop5ByAssignedFreelancerOrderByCreatedAtDesc(UserAccount freelancer);
+    @EntityGraph(attributePaths = "clientOwner")
+    List<Job> findTop5ByAssignedFreelancerIdOrderByCreatedAtDesc(Long freelancerId);
 
     // Open jobs for recommendations (unassigned)
+    @EntityGraph(attributePaths = "clientOwner")
     List<Job> findTop5ByStatusAndAssignedFreelancerIsNullOrderByCreatedAtDesc(JobStatus status);
 
     // Find all open jobs (unassigned)
+    @EntityGraph(attributePaths = {"clientOwner", "assignedFreelancer"})
     List<Job> findByStatusAndAssignedFreelancerIsNull(JobStatus status);
 
+    @EntityGraph(attributePaths = {"clientOwner", "assignedFreelancer"})
+    List<Job> findAllByOrderByCreatedAtDesc();
+
+    // Keyset job board, newest first, served by idx_jobs_status_created_at
+    @Query("SELECT " + ROW + """
+         WHERE j.status IN :statuses AND j.budgetCents BETWEEN :minBudget AND :maxBudget
+        ORDER BY j.createdAt DESC, j.id DESC
+        """)
+    List<JobRow> findRows(Collection<JobStatus> statuses, long minBudget, long maxBudget, Pageable pageable);
+
+    @Query("SELECT " + ROW + """
+         WHERE j.status IN :statuses AND j.budgetCents BETWEEN :minBudget AND :maxBudget
+          AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id))
+        ORDER BY j.createdAt DESC, j.id DESC
+        """)
+    List<JobRow> findRowsBefore(Collection<JobStatus> statuses, long minBudget, long maxBudget,
+                                Instant createdAt, Long id, Pageable pageable);
+
+    // [id, title, description, budgetCents, clientEmail, createdAt] of unassigned jobs in a status, in id order (job matching)
+    @Query("SELECT j.id, j.title, j.description, j.budgetCents, c.email, j.createdAt FROM Job j LEFT JOIN j.clientOwner c WHERE j.status = :status AND j.assignedFreelancer IS NULL AND j.id > :afterId ORDER BY j.id")
+    List<Object[]> findMatchFieldsAfter(JobStatus status, long afterId, Pageable pageable);
+
+    @Query("SELECT j.id, j.title, j.description, j.budgetCents, c.email, j.createdAt FROM Job j LEFT JOIN j.clientOwner c WHERE j.id = :id AND j.status = :status AND j.assignedFreelancer IS NULL")
+    List<Object[]> findMatchFieldsById(JobStatus status, Long id);
+
+    @EntityGraph(attributePaths = {"clientOwner", "assignedFreelancer"})
+    Optional<Job> findWithUsersById(Long id);
+
+    // Atomic OPEN -> ASSIGNED transition: 1 for the single winning applicant, 0 for everyone else
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Job j SET j.assignedFreelancer = :freelancer, j.status = com.gigmework.backend.domain.JobStatus.ASSIGNED, j.version = j.version + 1
+        WHERE j.id = :id AND j.status = com.gigmework.backend.domain.JobStatus.OPEN AND j.assignedFreelancer IS NULL
+        """)
+    int assignIfOpen(Long id, UserAccount freelancer);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Job j SET j.status = com.gigmework.backend.domain.JobStatus.COMPLETED, j.version = j.version + 1
+        WHERE j.id = :id AND j.status = com.gigmework.backend.domain.JobStatus.ASSIGNED
+        """)
+    int completeIfAssigned(Long id);
+
     long countByAssignedFreelancer(UserAccount freelancer);
 
     long countByAssignedFreelancerIsNullAndStatus(JobStatus status);
@@ -0,0 +1,9 @@
+package com.gigmework.backend.repo;
+
+import com.gigmework.backend.domain.JobStatus;
+
+import java.time.Instant;
+
+/** Job listing row with owner and assignee emails resolved by the same query (no lazy {@code UserAccount} loads). */
+public record JobRow(Long id, String title, String description, String clientOwnerEmail, String assignedFreelancerEmail,
+                     long budgetCents, JobStatus status, Instant createdAt) {}
@@ -9,5 +9,7 @@ import java.util.List;
 public interface PortfolioItemRepository extends JpaRepository<PortfolioItem, Long> {
     List<PortfolioItem> findTop6ByFreelancerOrderByCreatedAtDesc(UserAccount freelancer);
     long countByFreelancer(UserAccount freelancer);
+    List<PortfolioItem> findTop6ByFreelancerIdOrderByCreatedAtDesc(Long freelancerId);
+    long countByFreelancerId(Long freelancerId);
     List<PortfolioItem> findByFreelancerAndMediaTypeOrderByCreatedAtDesc(UserAccount freelancer, com.gigmework.backend.domain.MediaType mediaType);
 }
@@ -1,11 +1,30 @@
 package com.gigmework.backend.repo;
 
 import com.gigmework.backend.domain.PostLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     long countByPostId(Long postId);
     boolean existsByPostIdAndUserId(Long postId, Long userId);
     void deleteByPostIdAndUserId(Long postId, Long userId);
-}
 
+    // [postId, likeCount, likedByViewer (0/1)] for every post in the batch that has at least one like
+    @Query("""
+        select pl.post.id, count(pl.id), sum(case when pl.user.id = :viewerId then 1 else 0 end)
+        from PostLike pl where pl.post.id in :postIds group by pl.post.id
+        """)
+    List<Object[]> likeStatsForPosts(Collection<Long> postIds, Long viewerId);
+
+    // [likeId, postId, userId] for existing likes within a batch of pending (post, user) pairs
+    @Query("select pl.id, pl.post.id, pl.user.id from PostLike pl where pl.post.id in :postIds and pl.user.id in :userIds")
+    List<Object[]> findLikesAmong(Collection<Long> postIds, Collection<Long> userIds);
+
+    // [likeId, postId, userId] in id order, for rebuilding the likes Bloom filter in chunks
+    @Query("select pl.id, pl.post.id, pl.user.id from PostLike pl where pl.id > :afterId order by pl.id")
+    List<Object[]> findPairsAfter(long afterId, Pageable pageable);
+}
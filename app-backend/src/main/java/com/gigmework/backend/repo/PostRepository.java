@@ -5,10 +5,54 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     @EntityGraph(attributePaths = {"author", "media"})
     Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
     long countByAuthorId(Long authorId);
+
+    // Keyset feed: ids first (index range scan on created_at, no COUNT/OFFSET), then hydrate by id
+    @Query("select p.id from Post p order by p.createdAt desc, p.id desc")
+    List<Long> findLatestIds(Pageable pageable);
+
+    @Query("""
+        select p.id from Post p
+        where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)
+        order by p.createdAt desc, p.id desc
+        """)
+    List<Long> findIdsBefore(Instant createdAt, Long id, Pageable pageable);
+
+    @Query("select p.id from Post p where p.author.id = :authorId order by p.createdAt desc, p.id desc")
+    List<Long> findLatestIdsByAuthor(Long authorId, Pageable pageable);
+
+    @Query("""
+        select p.id from Post p
+        where p.author.id = :authorId and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+        order by p.createdAt desc, p.id desc
+        """)
+    List<Long> findIdsByAuthorBefore(Long authorId, Instant createdAt, Long id, Pageable pageable);
+
+    // [postId, createdAt] of the latest posts by a set of authors (pull-on-read for high-fanout creators)
+    @Query("select p.id, p.createdAt from Post p where p.author.id in :authorIds order by p.createdAt desc, p.id desc")
+    List<Object[]> findRecentByAuthors(Collection<Long> authorIds, Pageable pageable);
+
+    @Query("""
+        select p.id, p.createdAt from Post p
+        where p.author.id in :authorIds and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+        order by p.createdAt desc, p.id desc
+        """)
+    List<Object[]> findRecentByAuthorsBefore(Collection<Long> authorIds, Instant createdAt, Long id, Pageable pageable);
+
+    // [postId, createdAt, likeCount] for posts created since the given instant (trending warm-up)
+    @Query("select p.id, p.createdAt, count(l.id) from Post p left join PostLike l on l.post = p where p.createdAt >= :since group by p.id, p.createdAt")
+    List<Object[]> findLikeCountsSince(Instant since);
+
+    @EntityGraph(attributePaths = {"author", "media"})
+    List<Post> findByIdIn(Collection<Long> ids);
 }
@@ -1,9 +1,12 @@
 package com.gigmework.backend.repo;
 
 import com.gigmework.backend.domain.SocialFollow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 
@@ -11,11 +14,33 @@ public interface SocialFollowRepository extends JpaRepository<SocialFollow, Long
     boolean existsByFollowerIdAndTargetId(Long followerId, Long targetId);
     long countByTargetId(Long targetId); // followers count
     long countByFollowerId(Long followerId); // following count
-    void deleteByFollowerIdAndTargetId(Long followerId, Long targetId);
+    long deleteByFollowerIdAndTargetId(Long followerId, Long targetId);
+
+    // 0 when the pair already exists (possibly written by another instance); never trips the unique constraint
+    @Modifying
+    @Query(value = """
+        insert into social_follow (id, follower_id, target_id, created_at)
+        values (nextval('social_follow_seq'), :followerId, :targetId, :createdAt)
+        on conflict do nothing
+        """, nativeQuery = true)
+    int insertIfAbsent(Long followerId, Long targetId, Instant createdAt);
 
     @Query("select sf from SocialFollow sf where sf.follower.id = :followerId and sf.target.id in :targetIds")
     List<SocialFollow> findByFollowerIdAndTargetIdIn(Long followerId, Collection<Long> targetIds);
 
     @Query("select sf.target.id as tid, count(sf.id) as cnt from SocialFollow sf where sf.target.id in :ids group by sf.target.id")
     List<Object[]> countFollowersForTargets(Collection<Long> ids);
+
+    @Query("select sf.follower.id from SocialFollow sf where sf.target.id = :targetId")
+    List<Long> findFollowerIds(Long targetId, Pageable pageable);
+
+    @Query("select sf.target.id from SocialFollow sf where sf.follower.id = :followerId and sf.target.id in :targetIds")
+    List<Long> findFollowedTargetIds(Long followerId, Collection<Long> targetIds);
+
+    @Query("select sf.target.id from SocialFollow sf group by sf.target.id having count(sf.id) > :threshold")
+    List<Long> findTargetsWithMoreFollowersThan(long threshold);
+
+    // [id, followerId, targetId] in id order, for loading the follow graph in chunks
+    @Query("select sf.id, sf.follower.id, sf.target.id from SocialFollow sf where sf.id > :afterId order by sf.id")
+    List<Object[]> findEdgesAfter(long afterId, Pageable pageable);
 }
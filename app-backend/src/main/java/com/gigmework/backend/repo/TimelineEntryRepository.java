@@ -0,0 +1,50 @@
+package com.gigmework.backend.repo;
+
+import com.gigmework.backend.domain.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, TimelineEntry.Key> {
+    // [postId, createdAt], newest first
+    @Query("select t.postId, t.createdAt from TimelineEntry t where t.userId = :userId order by t.createdAt desc, t.postId desc")
+    List<Object[]> findRecent(Long userId, Pageable pageable);
+
+    @Query("""
+        select t.postId, t.createdAt from TimelineEntry t
+        where t.userId = :userId and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.postId < :postId))
+        order by t.createdAt desc, t.postId desc
+        """)
+    List<Object[]> findRecentBefore(Long userId, Instant createdAt, Long postId, Pageable pageable);
+
+    // Single statement fan-out of one post to every follower of its author
+    @Modifying
+    @Query(value = """
+        insert into home_timeline (user_id, post_id, created_at)
+        select sf.follower_id, :postId, :createdAt from social_follow sf where sf.target_id = :authorId
+        """, nativeQuery = true)
+    int fanOut(Long authorId, Long postId, Instant createdAt);
+
+    @Modifying
+    @Query(value = "insert into home_timeline (user_id, post_id, created_at) values (:userId, :postId, :createdAt)", nativeQuery = true)
+    int deliver(Long userId, Long postId, Instant createdAt);
+
+    // Seeds a new follower's timeline with the author's latest posts
+    @Modifying
+    @Query(value = """
+        insert into home_timeline (user_id, post_id, created_at)
+        select :userId, p.id, p.created_at from posts p
+        where p.author_id = :authorId
+          and not exists (select 1 from home_timeline t where t.user_id = :userId and t.post_id = p.id)
+        order by p.created_at desc limit :limit
+        """, nativeQuery = true)
+    int backfill(Long userId, Long authorId, int limit);
+
+    @Modifying
+    @Query(value = "delete from home_timeline where user_id = :userId and post_id in (select p.id from posts p where p.author_id = :authorId)", nativeQuery = true)
+    int removeAuthor(Long userId, Long authorId);
+}
@@ -3,7 +3,10 @@ package com.gigmework.backend.repo;
 import com.gigmework.backend.domain.UserAccount;
 import com.gigmework.backend.domain.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,5 +14,47 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, Long>
     Optional<UserAccount> findByEmailIgnoreCase(String email);
     List<UserAccount> findByRole(UserRole role);
     boolean existsByEmailIgnoreCase(String email);
-}
 
+    // Counter maintenance: single-row atomic increments inside the caller's transaction
+    @Modifying
+    @Query("update UserAccount u set u.followerCount = u.followerCount + :delta where u.id = :userId")
+    int addFollowers(Long userId, long delta);
+
+    @Modifying
+    @Query("update UserAccount u set u.followingCount = u.followingCount + :delta where u.id = :userId")
+    int addFollowing(Long userId, long delta);
+
+    @Modifying
+    @Query("update UserAccount u set u.postCount = u.postCount + :delta where u.id = :userId")
+    int addPosts(Long userId, long delta);
+
+    // [posts, followers, following]
+    @Query("select u.postCount, u.followerCount, u.followingCount from UserAccount u where u.id = :userId")
+    List<Object[]> findCounters(Long userId);
+
+    // [userId, followers]
+    @Query("select u.id, u.followerCount from UserAccount u where u.id in :ids")
+    List<Object[]> findFollowerCounts(Collection<Long> ids);
+
+    // Drift repair: set-based, touches only rows whose counter disagrees with the source table
+    @Modifying
+    @Query(value = """
+        update users u set follower_count = (select count(*) from social_follow f where f.target_id = u.id)
+        where u.follower_count <> (select count(*) from social_follow f where f.target_id = u.id)
+        """, nativeQuery = true)
+    int reconcileFollowerCounts();
+
+    @Modifying
+    @Query(value = """
+        update users u set following_count = (select count(*) from social_follow f where f.follower_id = u.id)
+        where u.following_count <> (select count(*) from social_follow f where f.follower_id = u.id)
+        """, nativeQuery = true)
+    int reconcileFollowingCounts();
+
+    @Modifying
+    @Query(value = """
+        update users u set post_count = (select count(*) from posts p where p.author_id = u.id)
+        where u.post_count <> (select count(*) from posts p where p.author_id = u.id)
+        """, nativeQuery = true)
+    int reconcilePostCounts();
+}
@@ -10,16 +10,24 @@ import java.util.Optional;
 
 @Service
 public class ContactLinkService {
+    static final String BY_USER_FLIGHT = "contactLinks";
 
     @Autowired
     private ContactLinkRepository contactLinkRepository;
 
-    public List<ContactLink> getContactLinksByUserId(Long userId) {
-        return contactLinkRepository.findByUserId(userId);
+    @Autowired
+    private SingleFlight singleFlight;
+
+    // Shared by concurrent readers of the same card as immutable records; writers below detach the running read after saving
+    public List<ContactLinkDto> getContactLinksByUserId(Long userId) {
+        return singleFlight.run(BY_USER_FLIGHT, userId,
+                () -> contactLinkRepository.findByUserId(userId).stream().map(ContactLinkDto::from).toList());
     }
 
     public ContactLink createContactLink(ContactLink contactLink) {
-        return contactLinkRepository.save(contactLink);
+        ContactLink saved = contactLinkRepository.save(contactLink);
+        singleFlight.forget(BY_USER_FLIGHT, saved.getUserId());
+        return saved;
     }
 
     public ContactLink updateContactLink(Long id, ContactLink updatedContactLink) {
@@ -30,13 +38,23 @@ public class ContactLinkService {
             link.setUrl(updatedContactLink.getUrl());
             link.setKind(updatedContactLink.getKind());
             link.setSortOrder(updatedContactLink.getSortOrder());
-            return contactLinkRepository.save(link);
+            ContactLink saved = contactLinkRepository.save(link);
+            singleFlight.forget(BY_USER_FLIGHT, saved.getUserId());
+            return saved;
         } else {
             throw new RuntimeException("Contact link not found");
         }
     }
 
     public void deleteContactLink(Long id) {
+        Optional<ContactLink> link = contactLinkRepository.findById(id);
         contactLinkRepository.deleteById(id);
+        link.ifPresent(l -> singleFlight.forget(BY_USER_FLIGHT, l.getUserId()));
+    }
+
+    public record ContactLinkDto(Long id, Long userId, String label, String url, String kind, Integer sortOrder) {
+        static ContactLinkDto from(ContactLink l) {
+            return new ContactLinkDto(l.getId(), l.getUserId(), l.getLabel(), l.getUrl(), l.getKind(), l.getSortOrder());
+        }
     }
 }
@@ -0,0 +1,46 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.repo.FreelancerStatsRepository;
+import com.gigmework.backend.repo.UserAccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Repairs drift in the denormalized follower/following/post counters on {@code users} and in
+ * {@code freelancer_stats} (rows written outside the services, manual fixes, lost increments). Runs once at startup and then every
+ * {@code app.social.counters.reconcile-interval-ms}.
+ */
+@Service
+public class CounterReconciler {
+    private static final Logger log = LoggerFactory.getLogger(CounterReconciler.class);
+
+    private final UserAccountRepository userRepo;
+    private final FreelancerStatsRepository statsRepo;
+    private final TransactionTemplate tx;
+
+    public CounterReconciler(UserAccountRepository userRepo, FreelancerStatsRepository statsRepo, PlatformTransactionManager txManager) {
+        this.userRepo = userRepo;
+        this.statsRepo = statsRepo;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.social.counters.reconcile-interval-ms:3600000}",
+               initialDelayString = "${app.social.counters.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        int followers = tx.execute(status -> userRepo.reconcileFollowerCounts());
+        int following = tx.execute(status -> userRepo.reconcileFollowingCounts());
+        int posts = tx.execute(status -> userRepo.reconcilePostCounts());
+        if (followers + following + posts > 0) {
+            log.info("Counter reconciliation repaired {} follower, {} following and {} post counters", followers, following, posts);
+        }
+        int stats = tx.execute(status -> statsRepo.insertMissing() + statsRepo.reconcile());
+        if (stats > 0) log.info("Counter reconciliation repaired {} freelancer stats rows", stats);
+    }
+}
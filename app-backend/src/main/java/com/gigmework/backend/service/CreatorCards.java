@@ -0,0 +1,40 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.repo.CreatorCard;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/** The few profile fields shown on a creator card, kept in memory by user id so suggestions need no SQL. */
+@Service
+public class CreatorCards {
+    private static final Logger log = LoggerFactory.getLogger(CreatorCards.class);
+
+    private final FreelancerProfileRepository profileRepo;
+    private final ConcurrentHashMap<Long, CreatorCard> byUser = new ConcurrentHashMap<>();
+
+    public CreatorCards(FreelancerProfileRepository profileRepo) {
+        this.profileRepo = profileRepo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        profileRepo.findCards().forEach(c -> byUser.put(c.userId(), c));
+        log.info("Creator cards: {} loaded", byUser.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) {
+        profileRepo.findCardByUserId(e.userId()).ifPresentOrElse(c -> byUser.put(c.userId(), c), () -> byUser.remove(e.userId()));
+    }
+
+    public CreatorCard get(long userId) { return byUser.get(userId); }
+    public boolean contains(long userId) { return byUser.containsKey(userId); }
+}
@@ -0,0 +1,146 @@
+package com.gigmework.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.repo.CreatorCard;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Search-as-you-type cache in front of {@link CreatorSearchEngine}, keyed by normalized query.
+ * <p>
+ * Each lookup fetches up to {@code app.search.cache.fetch-size} hits. A result with fewer hits than that is the
+ * complete match set, so a longer query ("spr" after "sp") is answered by filtering it with
+ * {@link CreatorSearchEngine#matches} and re-ranking the survivors with {@link CreatorSearchEngine#rank} instead of
+ * searching again; the result is ordered as a direct search for the longer query would be. Queries of one or two characters match too many
+ * profiles to ever be complete; their top lists are computed at startup and pinned outside the LRU.
+ * A profile change drops every entry that held the profile or would now match it.
+ */
+@Service
+public class CreatorSearchCache {
+    private static final Logger log = LoggerFactory.getLogger(CreatorSearchCache.class);
+    private static final int SHORT_PREFIX = 2;
+    private static final int SHORT_FETCH = 50; // the largest page SocialService serves
+    private static final String WARM_ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final CreatorSearchEngine engine;
+    private final FreelancerProfileRepository freelancerRepo;
+    private final int fetchSize;
+    private final Cache<String, Result> results;
+    private final ConcurrentHashMap<String, Result> shortPrefixes = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong(); // bumped on every invalidation
+
+    public CreatorSearchCache(CreatorSearchEngine engine,
+                              FreelancerProfileRepository freelancerRepo,
+                              MeterRegistry meters,
+                              @Value("${app.search.cache.fetch-size:200}") int fetchSize,
+                              @Value("${app.search.cache.max-entries:10000}") long maxEntries,
+                              @Value("${app.search.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.engine = engine;
+        this.freelancerRepo = freelancerRepo;
+        this.fetchSize = fetchSize;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meters, results, "creatorSearch");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void startWarmUp() {
+        // lookups before it finishes compute their short prefix on demand
+        Thread warmer = new Thread(this::warmShortPrefixes, "search-cache-warmup");
+        warmer.setDaemon(true);
+        warmer.start();
+    }
+
+    void warmShortPrefixes() {
+        long started = System.currentTimeMillis();
+        for (char a : WARM_ALPHABET.toCharArray()) {
+            lookup(String.valueOf(a));
+            for (char b : WARM_ALPHABET.toCharArray()) lookup("" + a + b);
+        }
+        log.info("Creator search cache: {} short prefixes warmed in {} ms", shortPrefixes.size(), System.currentTimeMillis() - started);
+    }
+
+    /** Best hits for a normalized, non-empty query, best first. */
+    public List<CreatorCard> lookup(String query) {
+        if (query.length() <= SHORT_PREFIX) {
+            Result pinned = shortPrefixes.get(query);
+            if (pinned != null) return pinned.hits();
+            return load(query, SHORT_FETCH, r -> shortPrefixes.putIfAbsent(query, r)).hits();
+        }
+        Result cached = results.getIfPresent(query);
+        if (cached != null) return cached.hits();
+        long seen = generation.get();
+        Result refined = refine(query);
+        if (refined != null) {
+            if (generation.get() == seen) results.put(query, refined);
+            return refined.hits();
+        }
+        return load(query, fetchSize, r -> results.put(query, r)).hits();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) {
+        generation.incrementAndGet();
+        CreatorCard now = freelancerRepo.findCardByUserId(e.userId()).orElse(null);
+        results.asMap().entrySet().removeIf(en -> affected(en.getKey(), en.getValue(), e.userId(), now));
+        shortPrefixes.entrySet().removeIf(en -> affected(en.getKey(), en.getValue(), e.userId(), now));
+    }
+
+    // now is null when the profile is gone
+    private boolean affected(String query, Result cached, long userId, CreatorCard now) {
+        if (cached.contains(userId)) return true;
+        return now != null && engine.matches(query, now.name(), now.title(), now.skillsCsv());
+    }
+
+    /** Filters the complete result of the longest cached shorter prefix, if there is one, and ranks it for the query. */
+    private Result refine(String query) {
+        for (int len = query.length() - 1; len > SHORT_PREFIX; len--) {
+            Result parent = results.getIfPresent(query.substring(0, len));
+            if (parent == null || !parent.complete()) continue;
+            List<CreatorCard> hits = parent.hits().stream()
+                    .filter(h -> engine.matches(query, h.name(), h.title(), h.skillsCsv()))
+                    .toList();
+            return new Result(engine.rank(query, hits), true);
+        }
+        return null;
+    }
+
+    /** Searches, and stores the result unless a profile changed meanwhile (it may predate the change). */
+    private Result load(String query, int limit, Consumer<Result> store) {
+        long seen = generation.get();
+        List<CreatorCard> hits = engine.search(query, limit);
+        Result fresh = new Result(hits, hits.size() < limit);
+        if (generation.get() == seen) store.accept(fresh);
+        return fresh;
+    }
+
+    private record Result(List<CreatorCard> hits, boolean complete) {
+        boolean contains(long userId) {
+            for (CreatorCard h : hits) if (h.userId() == userId) return true;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.repo.CreatorCard;
+
+import java.util.List;
+
+/** Finds creator cards for the creator search box; {@code query} is already trimmed and lower-cased. */
+public interface CreatorSearchEngine {
+    List<CreatorCard> search(String query, int limit);
+
+    /**
+     * Whether a profile with these fields would be returned for {@code query}. Extending a query may only narrow
+     * its matches, which lets callers refine a complete result set for a shorter prefix in memory.
+     */
+    boolean matches(String query, String displayName, String professionalTitle, String skillsCsv);
+
+    /**
+     * Puts {@code hits}, all matches of {@code query}, in the order {@link #search} would return them. The default
+     * keeps the given order, which is only right for engines whose ranking does not depend on the query.
+     */
+    default List<CreatorCard> rank(String query, List<CreatorCard> hits) {
+        return hits;
+    }
+}
@@ -0,0 +1,182 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.repo.PostLikeRepository;
+import com.gigmework.backend.repo.SocialFollowRepository;
+import com.gigmework.backend.util.ShardedBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Bloom-filter fast path for "does this (follower, target) / (post, user) row exist?" checks. Nearly all of
+ * them answer no, and a definite negative from the filter skips the database.
+ * <p>
+ * Writers add pairs before their transaction commits. Deleted rows stay in the filter (costing a database check)
+ * until the next scheduled rebuild from the table. While a rebuild scans, new pairs go to both filters, and the
+ * replaced filter is still consulted for {@code app.bloom.grace-ms} to cover transactions that were in flight.
+ */
+@Service
+public class ExistenceFilters {
+    private static final Logger log = LoggerFactory.getLogger(ExistenceFilters.class);
+    private static final int LOAD_CHUNK = 10_000;
+
+    private final SocialFollowRepository followRepo;
+    private final PostLikeRepository likeRepo;
+    private final double falsePositiveRate;
+    private final long minCapacity;
+    private final Guard follows;
+    private final Guard likes;
+
+    public ExistenceFilters(SocialFollowRepository followRepo,
+                            PostLikeRepository likeRepo,
+                            MeterRegistry meters,
+                            @Value("${app.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${app.bloom.min-capacity:100000}") long minCapacity,
+                            @Value("${app.bloom.grace-ms:60000}") long graceMs) {
+        this.followRepo = followRepo;
+        this.likeRepo = likeRepo;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+        this.follows = new Guard("follows", meters, graceMs);
+        this.likes = new Guard("likes", meters, graceMs);
+    }
+
+    /** Keyed by (followerId, targetId). */
+    public Guard follows() { return follows; }
+
+    /** Keyed by (postId, userId). */
+    public Guard likes() { return likes; }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.bloom.rebuild-interval-ms:21600000}",
+               initialDelayString = "${app.bloom.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        rebuild(follows, followRepo::count, followRepo::findEdgesAfter);
+        rebuild(likes, likeRepo::count, likeRepo::findPairsAfter);
+    }
+
+    private void rebuild(Guard guard, LongSupplier rows, ChunkLoader loader) {
+        // 2x headroom keeps the false-positive rate near target as the table grows until the next rebuild
+        ShardedBloomFilter next = new ShardedBloomFilter(Math.max(minCapacity, rows.getAsLong() * 2), falsePositiveRate);
+        guard.building = next;
+        long afterId = 0;
+        long loaded = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = loader.after(afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                next.put((Long) r[1], (Long) r[2]);
+            }
+            loaded += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK);
+        guard.swap(next);
+        log.info("Bloom filter '{}' rebuilt: {} pairs, {} KB", guard.name, loaded, next.sizeInBytes() / 1024);
+    }
+
+    @FunctionalInterface
+    private interface ChunkLoader {
+        // [id, a, b] rows with id > afterId in id order
+        List<Object[]> after(long afterId, Pageable pageable);
+    }
+
+    public static final class Guard {
+        private final String name;
+        private final long graceMs;
+        private final Counter negatives;
+        private final Counter truePositives;
+        private final Counter falsePositives;
+        private final LongAdder negativesSinceRebuild = new LongAdder();
+        private final LongAdder falsePositivesSinceRebuild = new LongAdder();
+
+        private volatile ShardedBloomFilter active; // null until the first build: every check goes to the database
+        private volatile ShardedBloomFilter building;
+        private volatile ShardedBloomFilter previous;
+        private volatile long previousUntil;
+
+        Guard(String name, MeterRegistry meters, long graceMs) {
+            this.name = name;
+            this.graceMs = graceMs;
+            this.negatives = checks(meters, name, "negative");
+            this.truePositives = checks(meters, name, "true_positive");
+            this.falsePositives = checks(meters, name, "false_positive");
+            Gauge.builder("bloom.filter.false_positive_rate", this, Guard::falsePositiveRate)
+                    .description("Share of absent pairs the filter could not rule out, since the last rebuild")
+                    .tag("filter", name)
+                    .register(meters);
+            Gauge.builder("bloom.filter.size", this, g -> g.active == null ? 0 : g.active.sizeInBytes())
+                    .baseUnit("bytes")
+                    .tag("filter", name)
+                    .register(meters);
+        }
+
+        /** Runs {@code check} against the database only when the filter cannot rule the pair out. */
+        public boolean exists(long a, long b, BooleanSupplier check) {
+            if (!mightContain(a, b)) {
+                negatives.increment();
+                negativesSinceRebuild.increment();
+                return false;
+            }
+            boolean exists = check.getAsBoolean();
+            if (exists) {
+                truePositives.increment();
+            } else {
+                falsePositives.increment();
+                falsePositivesSinceRebuild.increment();
+            }
+            return exists;
+        }
+
+        /** Records a pair about to be written; call before the inserting transaction commits. */
+        public void add(long a, long b) {
+            ShardedBloomFilter f = active;
+            if (f != null) f.put(a, b);
+            f = building;
+            if (f != null) f.put(a, b);
+        }
+
+        /**
+         * False only when the pair is certainly absent as far as this instance knows: rows written by other
+         * instances, or committed behind a rebuild's scan after the grace period, may be missing.
+         */
+        public boolean mightContain(long a, long b) {
+            ShardedBloomFilter f = active;
+            if (f == null || f.mightContain(a, b)) return true;
+            ShardedBloomFilter p = previous;
+            return p != null && System.currentTimeMillis() < previousUntil && p.mightContain(a, b);
+        }
+
+        private void swap(ShardedBloomFilter next) {
+            previous = active;
+            previousUntil = System.currentTimeMillis() + graceMs;
+            active = next;
+            building = null;
+            negativesSinceRebuild.reset();
+            falsePositivesSinceRebuild.reset();
+        }
+
+        private double falsePositiveRate() {
+            long fp = falsePositivesSinceRebuild.sum();
+            long absent = fp + negativesSinceRebuild.sum();
+            return absent == 0 ? 0 : (double) fp / absent;
+        }
+
+        private static Counter checks(MeterRegistry meters, String name, String outcome) {
+            return Counter.builder("bloom.filter.checks").tag("filter", name).tag("outcome", outcome).register(meters);
+        }
+    }
+}
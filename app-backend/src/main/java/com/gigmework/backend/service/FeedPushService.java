@@ -0,0 +1,63 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.event.PostCreatedEvent;
+import com.gigmework.backend.event.PostLikeChangedEvent;
+import com.gigmework.backend.event.PostLikesSettledEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes feed changes to STOMP subscribers so clients can stop polling /api/feed/posts.
+ * New posts go out as soon as they commit; like changes are coalesced per post and the latest
+ * count is sent at most once every {@code app.feed.push-interval-ms}.
+ */
+@Service
+public class FeedPushService {
+    public static final String FEED_TOPIC = "/topic/feed";
+    public static final String POST_TOPIC_PREFIX = "/topic/posts/";
+
+    private final SimpMessagingTemplate messaging;
+    private final LikeBuffer likeBuffer;
+    private final Set<Long> dirtyPosts = ConcurrentHashMap.newKeySet();
+
+    public FeedPushService(SimpMessagingTemplate messaging, LikeBuffer likeBuffer) {
+        this.messaging = messaging;
+        this.likeBuffer = likeBuffer;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent e) {
+        messaging.convertAndSend(FEED_TOPIC, new NewPostMessage("post.created", e.postId(), e.authorId(), e.createdAt()));
+    }
+
+    @EventListener
+    public void onLikeChanged(PostLikeChangedEvent e) {
+        dirtyPosts.add(e.postId());
+    }
+
+    // a flush can settle on a different count than the optimistic one, e.g. when another instance raced it
+    @EventListener
+    public void onLikesSettled(PostLikesSettledEvent e) {
+        dirtyPosts.addAll(e.applied().keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${app.feed.push-interval-ms:250}")
+    public void pushLikeCounts() {
+        for (Iterator<Long> it = dirtyPosts.iterator(); it.hasNext(); ) {
+            Long postId = it.next();
+            it.remove(); // changes arriving from here on mark the post dirty again for the next tick
+            messaging.convertAndSend(POST_TOPIC_PREFIX + postId, new LikeCountMessage("post.likes", postId, likeBuffer.likeCount(postId)));
+        }
+    }
+
+    public record NewPostMessage(String type, Long postId, Long authorId, Instant createdAt) {}
+    public record LikeCountMessage(String type, Long postId, long likeCount) {}
+}
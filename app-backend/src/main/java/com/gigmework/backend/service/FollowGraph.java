@@ -0,0 +1,200 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.event.FollowChangedEvent;
+import com.gigmework.backend.repo.SocialFollowRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory copy of {@code social_follow} as sorted {@code long[]} adjacency lists in both directions.
+ * <p>
+ * Lists are copy-on-write: a follow or unfollow swaps in a new array for the two users involved, so readers
+ * never lock and always see a sorted snapshot. Loaded in id-ordered chunks at startup and kept current from
+ * {@link FollowChangedEvent} after commit; both paths are idempotent, so an event racing the load is harmless.
+ */
+@Service
+public class FollowGraph {
+    private static final Logger log = LoggerFactory.getLogger(FollowGraph.class);
+    private static final long[] NONE = new long[0];
+    private static final int LOAD_CHUNK = 10_000;
+    private static final int POPULAR_SIZE = 200;
+
+    private final SocialFollowRepository followRepo;
+    private final int maxFollowingScanned;
+    private final int maxSecondHopScanned;
+
+    private final ConcurrentHashMap<Long, long[]> following = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, long[]> followers = new ConcurrentHashMap<>();
+    private volatile long[] popular = NONE; // most-followed users, best first; pads cold-start suggestions
+    private volatile boolean loaded;
+
+    public FollowGraph(SocialFollowRepository followRepo,
+                       @Value("${app.social.suggest.max-following-scanned:500}") int maxFollowingScanned,
+                       @Value("${app.social.suggest.max-second-hop-scanned:1000}") int maxSecondHopScanned) {
+        this.followRepo = followRepo;
+        this.maxFollowingScanned = maxFollowingScanned;
+        this.maxSecondHopScanned = maxSecondHopScanned;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Adjacency out = new Adjacency();
+        Adjacency in = new Adjacency();
+        long afterId = 0;
+        int edges = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = followRepo.findEdgesAfter(afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                out.add((Long) r[1], (Long) r[2]);
+                in.add((Long) r[2], (Long) r[1]);
+            }
+            edges += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK);
+        following.clear();
+        followers.clear();
+        out.drainTo(following);
+        in.drainTo(followers);
+        loaded = true;
+        refreshPopular();
+        log.info("Follow graph: {} edges between {} users", edges, Math.max(following.size(), followers.size()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFollowChanged(FollowChangedEvent e) {
+        if (e.following()) {
+            following.compute(e.followerId(), (id, ids) -> insert(ids, e.targetId()));
+            followers.compute(e.targetId(), (id, ids) -> insert(ids, e.followerId()));
+        } else {
+            following.computeIfPresent(e.followerId(), (id, ids) -> remove(ids, e.targetId()));
+            followers.computeIfPresent(e.targetId(), (id, ids) -> remove(ids, e.followerId()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.social.popular-refresh-ms:60000}")
+    public void refreshPopular() {
+        if (!loaded) return;
+        PriorityQueue<Map.Entry<Long, long[]>> top = new PriorityQueue<>(
+                Comparator.comparingInt((Map.Entry<Long, long[]> en) -> en.getValue().length)
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()));
+        for (Map.Entry<Long, long[]> en : followers.entrySet()) {
+            top.add(en);
+            if (top.size() > POPULAR_SIZE) top.poll();
+        }
+        long[] ids = new long[top.size()];
+        for (int i = ids.length - 1; i >= 0; i--) ids[i] = top.poll().getKey();
+        popular = ids;
+    }
+
+    public boolean isLoaded() { return loaded; }
+
+    public boolean follows(long followerId, long targetId) {
+        return Arrays.binarySearch(following.getOrDefault(followerId, NONE), targetId) >= 0;
+    }
+
+    public int followerCount(long userId) { return followers.getOrDefault(userId, NONE).length; }
+    public int followingCount(long userId) { return following.getOrDefault(userId, NONE).length; }
+
+    /**
+     * "People you may know": accounts followed by the accounts {@code userId} follows, ranked by how many of
+     * them do (then by follower count), excluding the user and everyone they already follow. Topped up with the
+     * most-followed accounts when the user's neighbourhood is too small.
+     */
+    public List<Suggestion> suggestions(long userId, int limit, LongPredicate eligible) {
+        long[] mine = following.getOrDefault(userId, NONE);
+        long[] seen = new long[64];
+        int n = 0;
+        for (int i = 0; i < mine.length && i < maxFollowingScanned; i++) {
+            long[] theirs = following.getOrDefault(mine[i], NONE);
+            for (int j = 0; j < theirs.length && j < maxSecondHopScanned; j++) {
+                long c = theirs[j];
+                if (c == userId || Arrays.binarySearch(mine, c) >= 0) continue;
+                if (n == seen.length) seen = Arrays.copyOf(seen, n * 2);
+                seen[n++] = c;
+            }
+        }
+        // sort + run-length gives the mutual count per candidate without boxing
+        Arrays.sort(seen, 0, n);
+        List<Suggestion> ranked = new ArrayList<>();
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j < n && seen[j] == seen[i]) j++;
+            if (eligible.test(seen[i])) ranked.add(new Suggestion(seen[i], j - i, followerCount(seen[i])));
+            i = j;
+        }
+        ranked.sort(Comparator.comparingInt(Suggestion::mutualFollows).reversed()
+                .thenComparing(Comparator.comparingInt(Suggestion::followerCount).reversed())
+                .thenComparingLong(Suggestion::userId));
+        List<Suggestion> out = new ArrayList<>(ranked.subList(0, Math.min(limit, ranked.size())));
+        if (out.size() < limit) {
+            Set<Long> taken = new HashSet<>();
+            out.forEach(s -> taken.add(s.userId()));
+            for (long c : popular) {
+                if (out.size() >= limit) break;
+                if (c == userId || Arrays.binarySearch(mine, c) >= 0 || taken.contains(c) || !eligible.test(c)) continue;
+                out.add(new Suggestion(c, 0, followerCount(c)));
+            }
+        }
+        return out;
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) return new long[]{id};
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) return ids;
+        at = -at - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) return ids;
+        if (ids.length == 1) return null; // drops the map entry
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, ids.length - at - 1);
+        return next;
+    }
+
+    public record Suggestion(long userId, int mutualFollows, int followerCount) {}
+
+    /** Growable per-user lists used only while loading. */
+    private static final class Adjacency {
+        private final Map<Long, long[]> lists = new HashMap<>();
+        private final Map<Long, Integer> sizes = new HashMap<>();
+
+        void add(long from, long to) {
+            long[] ids = lists.get(from);
+            int size = sizes.getOrDefault(from, 0);
+            if (ids == null) ids = new long[4];
+            else if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size] = to;
+            lists.put(from, ids);
+            sizes.put(from, size + 1);
+        }
+
+        void drainTo(Map<Long, long[]> target) {
+            lists.forEach((from, ids) -> {
+                long[] exact = Arrays.copyOf(ids, sizes.get(from));
+                Arrays.sort(exact);
+                target.put(from, exact);
+            });
+        }
+    }
+}
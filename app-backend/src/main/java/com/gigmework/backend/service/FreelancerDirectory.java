@@ -0,0 +1,250 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.repo.CreatorCard;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-optimized columnar snapshot of the browsable {@code freelancer_profiles} columns: one primitive array
+ * per column indexed by row slot, with location and currency dictionary-encoded to int codes. A browse
+ * request is a single pass over the columns plus a bounded heap for the requested order; card fields come
+ * from {@link CreatorCards}, so browsing never touches the database.
+ * <p>
+ * Rows are upserted in place from {@link FreelancerProfileChangedEvent}. Scans hold the read lock, so a
+ * result never mixes old and new values of one row.
+ */
+@Service
+public class FreelancerDirectory {
+    private static final Logger log = LoggerFactory.getLogger(FreelancerDirectory.class);
+    private static final int LOAD_CHUNK = 2_000;
+    private static final int NO_RATE = Integer.MIN_VALUE;
+    private static final byte UNKNOWN = -1;
+
+    private final FreelancerProfileRepository freelancerRepo;
+    private final CreatorCards creatorCards;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // columns, guarded by lock
+    private long[] userIds = new long[1024];
+    private int[] rateCents = new int[1024];
+    private byte[] available = new byte[1024];
+    private int[] currencyCodes = new int[1024];
+    private int[] locationCodes = new int[1024];
+    private long[] createdAtMillis = new long[1024];
+    private boolean[] live = new boolean[1024];
+    private int rows;
+    private final Map<Long, Integer> slotByUser = new HashMap<>();
+    private final Dictionary currencies = new Dictionary();
+    private final Dictionary locations = new Dictionary();
+
+    public FreelancerDirectory(FreelancerProfileRepository freelancerRepo, CreatorCards creatorCards) {
+        this.freelancerRepo = freelancerRepo;
+        this.creatorCards = creatorCards;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long afterId = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = freelancerRepo.findDirectoryRowsAfter(afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                upsert(r);
+            }
+        } while (chunk.size() == LOAD_CHUNK);
+        log.info("Freelancer directory: {} rows, {} locations, {} currencies", rows, locations.size(), currencies.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) {
+        List<Object[]> found = freelancerRepo.findDirectoryRowByUserId(e.userId());
+        if (!found.isEmpty()) {
+            upsert(found.get(0));
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByUser.remove(e.userId());
+            if (slot != null) live[slot] = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Filters are optional (null = any); location and currency match case-insensitively. */
+    public List<Entry> browse(Integer minRateCents, Integer maxRateCents, Boolean availableOnly, String currency,
+                              String location, BrowseOrder order, int offset, int limit) {
+        int want = offset + limit;
+        List<Entry> out = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            int currencyCode = currency == null ? UNKNOWN : currencies.find(currency.trim().toUpperCase(Locale.ROOT));
+            int locationCode = location == null ? UNKNOWN : locations.find(location.trim().toLowerCase(Locale.ROOT));
+            if ((currency != null && currencyCode < 0) || (location != null && locationCode < 0)) return List.of();
+            int min = minRateCents == null ? NO_RATE : minRateCents;
+            int max = maxRateCents == null ? Integer.MAX_VALUE : maxRateCents;
+            boolean rateFilter = minRateCents != null || maxRateCents != null;
+            TopSlots top = new TopSlots(want, order(order));
+            for (int i = 0; i < rows; i++) {
+                if (!live[i]) continue;
+                if (rateFilter && (rateCents[i] == NO_RATE || rateCents[i] < min || rateCents[i] > max)) continue;
+                if (availableOnly != null && available[i] != (availableOnly ? 1 : 0)) continue;
+                if (currency != null && currencyCodes[i] != currencyCode) continue;
+                if (location != null && locationCodes[i] != locationCode) continue;
+                if (order == BrowseOrder.RATE_ASC || order == BrowseOrder.RATE_DESC) {
+                    if (rateCents[i] == NO_RATE) continue; // unpriced profiles cannot be ordered by rate
+                }
+                top.offer(i);
+            }
+            int[] slots = top.drainBestFirst();
+            for (int i = offset; i < slots.length; i++) {
+                int s = slots[i];
+                CreatorCard card = creatorCards.get(userIds[s]);
+                if (card == null) continue;
+                out.add(new Entry(userIds[s], card.name(), card.title(), card.avatarUrl(),
+                        rateCents[s] == NO_RATE ? null : rateCents[s],
+                        currencies.label(currencyCodes[s]), locations.label(locationCodes[s]),
+                        available[s] == UNKNOWN ? null : available[s] == 1));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return out;
+    }
+
+    // negative when slot a ranks before slot b; ties go to the higher (newer) user id
+    private SlotOrder order(BrowseOrder order) {
+        long[] users = userIds;
+        int[] rates = rateCents;
+        long[] created = createdAtMillis;
+        return switch (order) {
+            case RATE_ASC -> (a, b) -> rates[a] != rates[b] ? Integer.compare(rates[a], rates[b]) : Long.compare(users[b], users[a]);
+            case RATE_DESC -> (a, b) -> rates[a] != rates[b] ? Integer.compare(rates[b], rates[a]) : Long.compare(users[b], users[a]);
+            case RECENT -> (a, b) -> created[a] != created[b] ? Long.compare(created[b], created[a]) : Long.compare(users[b], users[a]);
+        };
+    }
+
+    // r = [id, userId, hourlyRateCents, available, currency, location, createdAt]
+    private void upsert(Object[] r) {
+        long userId = (Long) r[1];
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByUser.get(userId);
+            if (slot == null) {
+                if (rows == userIds.length) grow();
+                slot = rows++;
+                slotByUser.put(userId, slot);
+            }
+            userIds[slot] = userId;
+            rateCents[slot] = r[2] == null ? NO_RATE : (Integer) r[2];
+            available[slot] = r[3] == null ? UNKNOWN : (Boolean) r[3] ? (byte) 1 : (byte) 0;
+            currencyCodes[slot] = currencies.code(r[4] == null ? null : ((String) r[4]).trim().toUpperCase(Locale.ROOT), (String) r[4]);
+            locationCodes[slot] = locations.code(r[5] == null ? null : ((String) r[5]).trim().toLowerCase(Locale.ROOT), (String) r[5]);
+            createdAtMillis[slot] = ((Instant) r[6]).toEpochMilli();
+            live[slot] = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void grow() {
+        int n = userIds.length * 2;
+        userIds = Arrays.copyOf(userIds, n);
+        rateCents = Arrays.copyOf(rateCents, n);
+        available = Arrays.copyOf(available, n);
+        currencyCodes = Arrays.copyOf(currencyCodes, n);
+        locationCodes = Arrays.copyOf(locationCodes, n);
+        createdAtMillis = Arrays.copyOf(createdAtMillis, n);
+        live = Arrays.copyOf(live, n);
+    }
+
+    @FunctionalInterface
+    private interface SlotOrder {
+        int compare(int a, int b);
+    }
+
+    /** Bounded heap of slot numbers keeping the best {@code capacity}; the root is the worst one kept. */
+    private static final class TopSlots {
+        private final int[] heap;
+        private final SlotOrder order;
+        private int size;
+
+        TopSlots(int capacity, SlotOrder order) {
+            this.heap = new int[Math.max(capacity, 1)];
+            this.order = order;
+        }
+
+        void offer(int slot) {
+            if (size < heap.length) {
+                int i = size++;
+                heap[i] = slot;
+                while (i > 0 && worse(heap[i], heap[(i - 1) / 2])) {
+                    swap(i, (i - 1) / 2);
+                    i = (i - 1) / 2;
+                }
+            } else if (worse(heap[0], slot)) {
+                heap[0] = slot;
+                siftDown(0);
+            }
+        }
+
+        int[] drainBestFirst() {
+            int[] out = new int[size];
+            for (int i = out.length - 1; i >= 0; i--) {
+                out[i] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return out;
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int l = 2 * i + 1, r = l + 1, w = i;
+                if (l < size && worse(heap[l], heap[w])) w = l;
+                if (r < size && worse(heap[r], heap[w])) w = r;
+                if (w == i) return;
+                swap(i, w);
+                i = w;
+            }
+        }
+
+        private boolean worse(int a, int b) { return order.compare(a, b) > 0; }
+        private void swap(int i, int j) { int t = heap[i]; heap[i] = heap[j]; heap[j] = t; }
+    }
+
+    public enum BrowseOrder { RECENT, RATE_ASC, RATE_DESC }
+
+    public record Entry(Long userId, String name, String title, String avatarUrl, Integer hourlyRateCents,
+                        String currency, String location, Boolean available) {}
+
+    /** Normalized value -> int code; keeps the first original spelling as the label. Guarded by the outer lock. */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> labels = new ArrayList<>();
+
+        int code(String key, String label) {
+            if (key == null || key.isEmpty()) return UNKNOWN;
+            return codes.computeIfAbsent(key, k -> {
+                labels.add(label.trim());
+                return labels.size() - 1;
+            });
+        }
+
+        int find(String key) { return codes.getOrDefault(key, (int) UNKNOWN); }
+        String label(int code) { return code < 0 ? null : labels.get(code); }
+        int size() { return labels.size(); }
+    }
+}
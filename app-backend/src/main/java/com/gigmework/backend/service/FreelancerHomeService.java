@@ -3,10 +3,11 @@ package com.gigmework.backend.service;
 import com.gigmework.backend.domain.*;
 import com.gigmework.backend.repo.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,40 +17,63 @@ public class FreelancerHomeService {
     private final FreelancerProfileRepository profileRepo;
     private final JobRepository jobRepo;
     private final PortfolioItemRepository portfolioRepo;
+    private final FreelancerStatsRepository statsRepo;
+    private final JobMatcher jobMatcher;
+    private final ReadFanOut fanOut;
 
-    public FreelancerHomeService(UserAccountRepository userRepo, FreelancerProfileRepository profileRepo, JobRepository jobRepo, PortfolioItemRepository portfolioRepo) {
+    public FreelancerHomeService(UserAccountRepository userRepo, FreelancerProfileRepository profileRepo, JobRepository jobRepo, PortfolioItemRepository portfolioRepo,
+                                 FreelancerStatsRepository statsRepo, JobMatcher jobMatcher, ReadFanOut fanOut) {
         this.userRepo = userRepo; this.profileRepo = profileRepo; this.jobRepo = jobRepo; this.portfolioRepo = portfolioRepo;
+        this.statsRepo = statsRepo; this.jobMatcher = jobMatcher; this.fanOut = fanOut;
     }
 
+    // The independent lookups run in parallel, each in its own transaction; none is held on the request thread
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HomeDto getHome(Long userId) {
-        UserAccount user = userRepo.findById(userId).orElseThrow(() -> new IllegalArgumentException("user not found"));
-        FreelancerProfile profile = profileRepo.findByUser(user).orElse(null);
-        List<Job> recentAssigned = jobRepo.findTop5ByAssignedFreelancerOrderByCreatedAtDesc(user);
-        List<Job> recommended = jobRepo.findTop5ByStatusAndAssignedFreelancerIsNullOrderByCreatedAtDesc(JobStatus.OPEN);
-        long assignedCount = jobRepo.countByAssignedFreelancer(user);
-        long completedCount = recentAssigned.stream().filter(j -> j.getStatus() == JobStatus.COMPLETED).count();
-        long portfolioCount = portfolioRepo.countByFreelancer(user);
-        var portfolioItems = portfolioRepo.findTop6ByFreelancerOrderByCreatedAtDesc(user);
-        long totalBudgetCents = recentAssigned.stream().mapToLong(Job::getBudgetCents).sum();
-        Set<String> distinctClients = recentAssigned.stream()
-                .map(Job::getClientOwner)
-                .filter(c -> c != null)
-                .map(UserAccount::getEmail)
-                .collect(Collectors.toSet());
-        int successPercent = assignedCount == 0 ? 0 : (int) Math.round((completedCount * 100.0) / assignedCount);
-        return HomeDto.of(user, profile, assignedCount, completedCount, portfolioCount, recentAssigned, recommended, portfolioItems, distinctClients.size(), totalBudgetCents, successPercent);
+        try (ReadFanOut.Scope scope = fanOut.open("home")) {
+            var user = scope.required("user", () -> userRepo.findById(userId));
+            var profile = scope.optional("profile", Optional.<FreelancerProfile>empty(), () -> profileRepo.findByUserId(userId));
+            var recentAssigned = scope.optional("recentAssigned", List.<Job>of(), () -> jobRepo.findTop5ByAssignedFreelancerIdOrderByCreatedAtDesc(userId));
+            // all-time totals, maintained on assignment/completion (no row until the first assignment)
+            var stats = scope.optional("stats", Optional.<FreelancerStats>empty(), () -> statsRepo.findById(userId));
+            var portfolioCount = scope.optional("portfolioCount", 0L, () -> portfolioRepo.countByFreelancerId(userId));
+            var portfolioItems = scope.optional("portfolioItems", List.<PortfolioItem>of(), () -> portfolioRepo.findTop6ByFreelancerIdOrderByCreatedAtDesc(userId));
+            var recommended = scope.optional("recommended", List.<JobDto>of(), () -> recommendedJobs(userId));
+            scope.join();
+
+            UserAccount u = user.get().orElseThrow(() -> new IllegalArgumentException("user not found"));
+            FreelancerStats st = stats.get().orElse(null);
+            long assignedCount = st != null ? st.getAssignedCount() : 0;
+            long completedCount = st != null ? st.getCompletedCount() : 0;
+            int successPercent = assignedCount == 0 ? 0 : (int) Math.round((completedCount * 100.0) / assignedCount);
+            return HomeDto.of(u, profile.get().orElse(null), assignedCount, completedCount, portfolioCount.get(), recentAssigned.get(), recommended.get(),
+                    portfolioItems.get(), st != null ? st.getDistinctClients() : 0, st != null ? st.getTotalBudgetCents() : 0, successPercent,
+                    scope.isPartial());
+        }
+    }
+
+    private List<JobDto> recommendedJobs(Long userId) {
+        if (jobMatcher.isLoaded()) {
+            return jobMatcher.recommend(userId, 5).stream()
+                    .map(r -> new JobDto(r.jobId(), r.title(), r.budgetCents(), JobStatus.OPEN.name(), r.clientEmail()))
+                    .toList();
+        }
+        // matcher still loading at startup: a database query, under the branch deadline
+        return jobRepo.findTop5ByStatusAndAssignedFreelancerIsNullOrderByCreatedAtDesc(JobStatus.OPEN).stream().map(JobDto::from).toList();
     }
 
+    /** {@code partial} is true when a lookup failed or timed out and its section holds placeholder zeros/empties. */
     public record HomeDto(Long userId, String email,
                           String displayName, String professionalTitle, String skillsCsv, String bio, String imageUrl,
                           long assignedCount, long completedCount, long portfolioCount,
                           long distinctClients, long totalBudgetCents, int successPercent,
                           List<JobDto> recentAssignedJobs,
                           List<JobDto> recommendedJobs,
-                          List<PortfolioDto> portfolioItems) {
+                          List<PortfolioDto> portfolioItems,
+                          boolean partial) {
         static HomeDto of(UserAccount u, FreelancerProfile p, long assignedCount, long completedCount, long portfolioCount,
-                          List<Job> recentAssigned, List<Job> recommended, List<PortfolioItem> portfolio,
-                          long distinctClients, long totalBudgetCents, int successPercent) {
+                          List<Job> recentAssigned, List<JobDto> recommended, List<PortfolioItem> portfolio,
+                          long distinctClients, long totalBudgetCents, int successPercent, boolean partial) {
             return new HomeDto(
                     u.getId(), u.getEmail(),
                     p != null ? p.getDisplayName() : null,
@@ -60,8 +84,9 @@ public class FreelancerHomeService {
                     assignedCount, completedCount, portfolioCount,
                     distinctClients, totalBudgetCents, successPercent,
                     recentAssigned.stream().map(JobDto::from).collect(Collectors.toList()),
-                    recommended.stream().map(JobDto::from).collect(Collectors.toList()),
-                    portfolio.stream().map(PortfolioDto::from).collect(Collectors.toList())
+                    recommended,
+                    portfolio.stream().map(PortfolioDto::from).collect(Collectors.toList()),
+                    partial
             );
         }
     }
@@ -2,21 +2,29 @@ package com.gigmework.backend.service;
 
 import com.gigmework.backend.domain.FreelancerProfile;
 import com.gigmework.backend.domain.UserAccount;
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
 import com.gigmework.backend.repo.FreelancerProfileRepository;
 import com.gigmework.backend.repo.UserAccountRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Optional;
 
 @Service
 @Transactional
 public class FreelancerProfileService {
+    static final String BY_USER_FLIGHT = "freelancerProfile";
+
     private final FreelancerProfileRepository repo;
     private final UserAccountRepository userRepo;
+    private final SingleFlight singleFlight;
+    private final ApplicationEventPublisher events;
 
-    public FreelancerProfileService(FreelancerProfileRepository repo, UserAccountRepository userRepo) {
-        this.repo = repo; this.userRepo = userRepo;
+    public FreelancerProfileService(FreelancerProfileRepository repo, UserAccountRepository userRepo, SingleFlight singleFlight, ApplicationEventPublisher events) {
+        this.repo = repo; this.userRepo = userRepo; this.singleFlight = singleFlight; this.events = events;
     }
 
     public FreelancerProfile createOrUpdate(Long userId,
@@ -41,6 +49,7 @@ public class FreelancerProfileService {
         String name = displayName == null ? null : displayName.trim();
         if (name == null || name.isEmpty()) throw new IllegalArgumentException("displayName is required");
 
+        events.publishEvent(new FreelancerProfileChangedEvent(userId));
         Optional<FreelancerProfile> existing = repo.findByUser(user);
         if (existing.isPresent()) {
             FreelancerProfile fp = existing.get();
@@ -59,8 +68,59 @@ public class FreelancerProfileService {
         return repo.save(fp);
     }
 
-    @Transactional(readOnly = true)
-    public Optional<FreelancerProfile> getByUser(Long userId) {
-        return userRepo.findById(userId).flatMap(repo::findByUser);
+    // Coalesced and outside a transaction; callers share an immutable DTO, never the leader's managed entity
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<FreelancerProfileDto> getByUser(Long userId) {
+        return singleFlight.run(BY_USER_FLIGHT, userId, () -> repo.findByUserId(userId).map(FreelancerProfileDto::from));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) {
+        singleFlight.forget(BY_USER_FLIGHT, e.userId());
+    }
+
+    public record FreelancerProfileDto(
+            Long id,
+            Long userId,
+            String displayName,
+            String professionalTitle,
+            String bio,
+            String skillsCsv,
+            String imageUrl,
+            String location,
+            String contactEmail,
+            String phone,
+            String website,
+            String linkedin,
+            String github,
+            Integer hourlyRateCents,
+            String currency,
+            Boolean available,
+            String extraJson,
+            String socialLinksJson
+    ) {
+        public static FreelancerProfileDto from(FreelancerProfile fp) {
+            return new FreelancerProfileDto(
+                fp.getId(),
+                fp.getUser().getId(),
+                fp.getDisplayName(),
+                fp.getProfessionalTitle(),
+                fp.getBio(),
+                fp.getSkillsCsv(),
+                fp.getImageUrl(),
+                fp.getLocation(),
+                fp.getContactEmail(),
+                fp.getPhone(),
+                fp.getWebsite(),
+                fp.getLinkedin(),
+                fp.getGithub(),
+                fp.getHourlyRateCents(),
+                fp.getCurrency(),
+                fp.getAvailable(),
+                fp.getExtraJson(),
+                fp.getSocialLinksJson()
+            );
+        }
     }
 }
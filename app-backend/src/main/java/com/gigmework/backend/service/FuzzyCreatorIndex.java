@@ -0,0 +1,273 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typo-tolerant creator lookup over the words of display name, title and skills.
+ * <p>
+ * Every distinct word gets a token id, and each padded trigram ("$fl", "flu", ..., "er$") maps to the sorted
+ * ids of the tokens containing it. A query word is matched to tokens by Dice similarity of trigram sets
+ * (so "fluter" finds "flutter" and "postgre" finds "postgresql"), and each token to the sorted user ids using
+ * it. Profiles score the sum of their best similarity per query word, ties broken by total edit distance.
+ * All lists are copy-on-write arrays: one writer at a time, readers never lock. A search stops expanding
+ * candidates after {@code app.search.fuzzy.budget-ms} and returns the best found so far.
+ */
+@Service
+public class FuzzyCreatorIndex {
+    private static final Logger log = LoggerFactory.getLogger(FuzzyCreatorIndex.class);
+    private static final int LOAD_CHUNK = 2_000;
+    private static final int MAX_TOKENS_PER_WORD = 64;
+    private static final int MAX_QUERY_WORDS = 6;
+    private static final int[] NO_INTS = new int[0];
+    private static final long[] NO_LONGS = new long[0];
+    private static final Comparator<Match> BEST_FIRST = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparingInt(Match::distance)
+            .thenComparingLong(Match::userId);
+
+    private final FreelancerProfileRepository freelancerRepo;
+    private final double minSimilarity;
+    private final long budgetNanos;
+    private final Counter truncated;
+
+    private final ConcurrentHashMap<String, Integer> tokenIds = new ConcurrentHashMap<>();
+    private volatile String[] tokens = new String[1024];
+    private volatile int[] tokenTrigramCounts = new int[1024];
+    private int tokenCount; // guarded by this
+    private final ConcurrentHashMap<Long, int[]> tokensByTrigram = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, long[]> usersByToken = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, int[]> tokensByUser = new ConcurrentHashMap<>();
+
+    public FuzzyCreatorIndex(FreelancerProfileRepository freelancerRepo,
+                             MeterRegistry meters,
+                             @Value("${app.search.fuzzy.min-similarity:0.4}") double minSimilarity,
+                             @Value("${app.search.fuzzy.budget-ms:3}") long budgetMs) {
+        this.freelancerRepo = freelancerRepo;
+        this.minSimilarity = minSimilarity;
+        this.budgetNanos = budgetMs * 1_000_000;
+        this.truncated = Counter.builder("search.fuzzy.truncated")
+                .description("Fuzzy searches cut short by the latency budget")
+                .register(meters);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long afterId = 0;
+        int indexed = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = freelancerRepo.findSearchFieldsAfter(afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                index((Long) r[1], r);
+            }
+            indexed += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK);
+        log.info("Fuzzy creator index: {} profiles, {} distinct words", indexed, tokenIds.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) {
+        List<Object[]> rows = freelancerRepo.findSearchFieldsByUserId(e.userId());
+        index(e.userId(), rows.isEmpty() ? null : rows.get(0));
+    }
+
+    /** User ids best matching {@code query}, best first. */
+    public List<Long> search(String query, int limit) {
+        long deadline = System.nanoTime() + budgetNanos;
+        List<String> words = words(query);
+        if (words.size() > MAX_QUERY_WORDS) words = words.subList(0, MAX_QUERY_WORDS);
+        if (words.isEmpty()) return List.of();
+        Map<Long, Match> matches = new HashMap<>();
+        boolean cut = false;
+        search:
+        for (int w = 0; w < words.size(); w++) {
+            for (Candidate c : candidateTokens(words.get(w))) {
+                for (long userId : usersByToken.getOrDefault(c.tokenId(), NO_LONGS)) {
+                    matches.computeIfAbsent(userId, id -> new Match(id, MAX_QUERY_WORDS)).offer(w, c);
+                }
+                if (System.nanoTime() > deadline) {
+                    cut = true;
+                    break search;
+                }
+            }
+        }
+        if (cut) truncated.increment();
+        // bounded heap: top-K without sorting every profile that matched a common word
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        for (Match m : matches.values()) {
+            top.add(m);
+            if (top.size() > limit) top.poll();
+        }
+        Long[] out = new Long[top.size()];
+        for (int i = out.length - 1; i >= 0; i--) out[i] = top.poll().userId();
+        return List.of(out);
+    }
+
+    /** Tokens sharing enough trigrams with {@code word}, most similar first. */
+    private List<Candidate> candidateTokens(String word) {
+        long[] grams = trigrams(word);
+        String[] dict = tokens;
+        int[] gramCounts = tokenTrigramCounts;
+        Map<Integer, Integer> common = new HashMap<>();
+        for (long g : grams) {
+            for (int t : tokensByTrigram.getOrDefault(g, NO_INTS)) common.merge(t, 1, Integer::sum);
+        }
+        List<Candidate> out = new ArrayList<>();
+        common.forEach((t, shared) -> {
+            if (t >= dict.length || t >= gramCounts.length) return; // registered after we read the arrays
+            double similarity = 2.0 * shared / (grams.length + gramCounts[t]);
+            if (similarity >= minSimilarity) out.add(new Candidate(t, similarity, dict[t]));
+        });
+        out.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+        List<Candidate> best = out.subList(0, Math.min(MAX_TOKENS_PER_WORD, out.size()));
+        return best.stream().map(c -> c.withDistance(levenshtein(word, c.token()))).toList();
+    }
+
+    private synchronized void index(long userId, Object[] fields) {
+        int[] before = tokensByUser.getOrDefault(userId, NO_INTS);
+        int[] after = NO_INTS;
+        if (fields != null) {
+            Set<String> words = new LinkedHashSet<>();
+            for (int i = 2; i <= 4; i++) {
+                if (fields[i] != null) words.addAll(words((String) fields[i]));
+            }
+            after = words.stream().mapToInt(this::tokenId).sorted().toArray();
+        }
+        for (int t : before) {
+            if (Arrays.binarySearch(after, t) < 0) usersByToken.computeIfPresent(t, (id, users) -> remove(users, userId));
+        }
+        for (int t : after) {
+            if (Arrays.binarySearch(before, t) < 0) usersByToken.compute(t, (id, users) -> insert(users, userId));
+        }
+        if (after.length == 0) tokensByUser.remove(userId);
+        else tokensByUser.put(userId, after);
+    }
+
+    // called under the index lock; tokens are never removed, a word nobody uses just matches no profiles
+    private int tokenId(String word) {
+        Integer existing = tokenIds.get(word);
+        if (existing != null) return existing;
+        int id = tokenCount++;
+        if (id == tokens.length) {
+            // publish the larger arrays before the new id can appear in any posting list
+            tokenTrigramCounts = Arrays.copyOf(tokenTrigramCounts, id * 2);
+            tokens = Arrays.copyOf(tokens, id * 2);
+        }
+        long[] grams = trigrams(word);
+        // written before the id is published through tokensByTrigram, so readers that find the id see them
+        tokens[id] = word;
+        tokenTrigramCounts[id] = grams.length;
+        for (long g : grams) {
+            tokensByTrigram.compute(g, (k, ids) -> {
+                int[] next = ids == null ? new int[1] : Arrays.copyOf(ids, ids.length + 1);
+                next[next.length - 1] = id; // ids are handed out in increasing order, so appending keeps it sorted
+                return next;
+            });
+        }
+        tokenIds.put(word, id);
+        return id;
+    }
+
+    static List<String> words(String text) {
+        List<String> out = new ArrayList<>();
+        for (String w : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!w.isEmpty()) out.add(w);
+        }
+        return out;
+    }
+
+    /** Distinct padded trigrams of a word, each packed as three 16-bit chars. */
+    static long[] trigrams(String word) {
+        String padded = "$" + word + "$";
+        if (padded.length() < 3) return NO_LONGS;
+        long[] out = new long[padded.length() - 2];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        return Arrays.stream(out).distinct().toArray();
+    }
+
+    static int levenshtein(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] cur = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) prev[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            cur[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] swap = prev; prev = cur; cur = swap;
+        }
+        return prev[b.length()];
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) return new long[]{id};
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) return ids;
+        at = -at - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) return ids;
+        if (ids.length == 1) return null;
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, ids.length - at - 1);
+        return next;
+    }
+
+    record Candidate(int tokenId, double similarity, String token, int distance) {
+        Candidate(int tokenId, double similarity, String token) { this(tokenId, similarity, token, 0); }
+        Candidate withDistance(int d) { return new Candidate(tokenId, similarity, token, d); }
+    }
+
+    /** Best token per query word for one profile, with running totals so ranking does no per-compare work. */
+    private static final class Match {
+        private final long userId;
+        private final double[] similarity;
+        private final int[] distance;
+        private double score;
+        private int totalDistance;
+
+        Match(long userId, int words) {
+            this.userId = userId;
+            this.similarity = new double[words];
+            this.distance = new int[words];
+        }
+
+        void offer(int word, Candidate c) {
+            if (c.similarity() > similarity[word] || (c.similarity() == similarity[word] && c.distance() < distance[word])) {
+                score += c.similarity() - similarity[word];
+                totalDistance += c.distance() - distance[word];
+                similarity[word] = c.similarity();
+                distance[word] = c.distance();
+            }
+        }
+
+        long userId() { return userId; }
+        double score() { return score; }
+        int distance() { return totalDistance; }
+    }
+}
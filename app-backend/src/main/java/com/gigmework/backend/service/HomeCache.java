@@ -0,0 +1,105 @@
+package com.gigmework.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.event.JobChangedEvent;
+import com.gigmework.backend.event.PortfolioItemCreatedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Serialized {@link FreelancerHomeService.HomeDto} per user, so an unchanged dashboard is served as stored JSON bytes.
+ * <p>
+ * Entries are dropped after commit when the user's jobs are assigned or completed, a portfolio item is added or
+ * the profile changes. Whatever no event covers (recommendations shifting as other jobs open, reconciled stats) is
+ * bounded by {@code app.home.cache.max-staleness-seconds}.
+ * <p>
+ * A miss loads outside the cache's own locking, coalesced per user through {@link SingleFlight}, so a slow
+ * dashboard never blocks invalidations or other users. The result is stored only if no invalidation of that user
+ * (tracked per stamp stripe) happened since the load started, so an entry computed before a commit cannot outlive
+ * that commit's event. Partial dashboards, where a lookup fell back, are served but never stored.
+ */
+@Service
+public class HomeCache {
+    static final String HOME_FLIGHT = "freelancerHome";
+    private static final int STAMP_STRIPES = 1024;
+
+    private final FreelancerHomeService homeService;
+    private final SingleFlight singleFlight;
+    private final ObjectMapper json;
+    private final Cache<Long, byte[]> cache;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES); // bumped on every invalidation
+
+    public HomeCache(FreelancerHomeService homeService,
+                     SingleFlight singleFlight,
+                     ObjectMapper json,
+                     MeterRegistry meters,
+                     @Value("${app.home.cache.max-entries:20000}") long maxEntries,
+                     @Value("${app.home.cache.max-staleness-seconds:60}") long maxStalenessSeconds) {
+        this.homeService = homeService;
+        this.singleFlight = singleFlight;
+        this.json = json;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(maxStalenessSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meters, cache, "freelancerHome");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate()).tag("cache", "freelancerHome").register(meters);
+    }
+
+    /** The user's HomeDto as JSON; throws IllegalArgumentException for an unknown user (not cached). */
+    public byte[] get(Long userId) {
+        byte[] hit = cache.getIfPresent(userId);
+        return hit != null ? hit : singleFlight.run(HOME_FLIGHT, userId, () -> load(userId));
+    }
+
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+        stamps.incrementAndGet(stripe(userId)); // before the removal, so a load that read the old stamp cannot store
+        cache.invalidate(userId);
+        singleFlight.forget(HOME_FLIGHT, userId);
+    }
+
+    private byte[] load(Long userId) {
+        long stamp = stamps.get(stripe(userId));
+        FreelancerHomeService.HomeDto home = homeService.getHome(userId);
+        byte[] bytes = serialize(home);
+        if (!home.partial()) {
+            // the stamp check and the store run under the entry lock that invalidate() also takes
+            cache.asMap().compute(userId, (id, current) -> stamps.get(stripe(id)) == stamp ? bytes : current);
+        }
+        return bytes;
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), STAMP_STRIPES);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent e) { invalidate(e.freelancerId()); }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioItemCreated(PortfolioItemCreatedEvent e) { invalidate(e.freelancerId()); }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) { invalidate(e.userId()); }
+
+    private byte[] serialize(FreelancerHomeService.HomeDto home) {
+        try {
+            return json.writeValueAsBytes(home);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("cannot serialize home of user " + home.userId(), e);
+        }
+    }
+}
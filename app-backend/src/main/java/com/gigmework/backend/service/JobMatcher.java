@@ -0,0 +1,369 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.domain.JobStatus;
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.event.JobChangedEvent;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import com.gigmework.backend.repo.JobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Recommends open jobs to freelancers by skill overlap.
+ * <p>
+ * The skills found in {@code FreelancerProfile.skillsCsv} form a term dictionary. Each freelancer and each open,
+ * unassigned job is a bitset over it; a job's bits are the dictionary terms (up to three words) that occur in its
+ * title or description. Similarity is the Jaccard index of the two bitsets, computed with {@link Long#bitCount}.
+ * <p>
+ * Every freelancer's best {@code app.matching.top-k} jobs are kept precomputed, so a read is one map lookup: a new
+ * job is offered to the freelancers sharing one of its terms, a job that is assigned or closed is dropped and the
+ * lists that held it are recomputed, and a profile change recomputes that freelancer's list (and rescans the open
+ * jobs when it adds dictionary terms). Changes are applied after commit on one background thread, in commit order,
+ * so the committing request never waits for the matcher; writers are serialized on the matcher and published lists
+ * are immutable.
+ */
+@Service
+public class JobMatcher {
+    private static final Logger log = LoggerFactory.getLogger(JobMatcher.class);
+    private static final int LOAD_CHUNK = 2_000;
+    private static final int MAX_TERM_WORDS = 3;
+    private static final Pattern SPLIT = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final long[] NONE = new long[0];
+    private static final Match[] NO_MATCHES = new Match[0];
+    private static final Comparator<OpenJob> NEWEST_FIRST =
+            Comparator.comparing(OpenJob::createdAt).thenComparingLong(OpenJob::id).reversed();
+
+    private final JobRepository jobRepo;
+    private final FreelancerProfileRepository freelancerRepo;
+    private final int topK;
+    private final Executor updates;
+
+    // guarded by this
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final Map<Long, long[]> userBits = new HashMap<>();
+    private final Map<Integer, long[]> usersByTerm = new HashMap<>();
+    private final Map<Integer, long[]> jobsByTerm = new HashMap<>();
+    private final Map<Long, OpenJob> openJobs = new HashMap<>();
+
+    private final ConcurrentHashMap<Long, Match[]> topByUser = new ConcurrentHashMap<>();
+    private volatile List<OpenJob> newest = List.of(); // pads lists of freelancers with few or no matches
+    private volatile boolean loaded;
+
+    @Autowired
+    public JobMatcher(JobRepository jobRepo,
+                      FreelancerProfileRepository freelancerRepo,
+                      @Value("${app.matching.top-k:10}") int topK) {
+        this(jobRepo, freelancerRepo, topK, Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "job-matcher");
+            t.setDaemon(true);
+            return t;
+        }));
+    }
+
+    JobMatcher(JobRepository jobRepo, FreelancerProfileRepository freelancerRepo, int topK, Executor updates) {
+        this.jobRepo = jobRepo;
+        this.freelancerRepo = freelancerRepo;
+        this.topK = topK;
+        this.updates = updates;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (updates instanceof ExecutorService pool) pool.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long afterId = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = freelancerRepo.findSearchFieldsAfter(afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                setSkills((Long) r[1], (String) r[4]);
+            }
+        } while (chunk.size() == LOAD_CHUNK);
+        afterId = 0;
+        do {
+            chunk = jobRepo.findMatchFieldsAfter(JobStatus.OPEN, afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                index(openJob(r));
+            }
+        } while (chunk.size() == LOAD_CHUNK);
+        userBits.keySet().forEach(this::recompute);
+        refreshNewest();
+        loaded = true;
+        log.info("Job matcher: {} open jobs, {} freelancers, {} skill terms", openJobs.size(), userBits.size(), termIds.size());
+    }
+
+    public boolean isLoaded() { return loaded; }
+
+    /** The freelancer's best matching open jobs, best first, padded with the newest open jobs up to {@code limit}. */
+    public List<Recommendation> recommend(long userId, int limit) {
+        Match[] top = topByUser.getOrDefault(userId, NO_MATCHES);
+        List<Recommendation> out = new ArrayList<>(limit);
+        for (int i = 0; i < top.length && out.size() < limit; i++) {
+            out.add(top[i].job().recommendation(top[i].score()));
+        }
+        for (OpenJob j : newest) {
+            if (out.size() >= limit) break;
+            if (!contains(top, j.id())) out.add(j.recommendation(0));
+        }
+        return out;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent e) {
+        apply("job " + e.jobId(), () -> jobChanged(e.jobId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) {
+        apply("profile of user " + e.userId(), () -> profileChanged(e.userId()));
+    }
+
+    private void apply(String what, Runnable change) {
+        updates.execute(() -> {
+            try {
+                change.run();
+            } catch (RuntimeException ex) {
+                log.warn("Job matcher could not apply the change of {}: {}", what, ex.toString());
+            }
+        });
+    }
+
+    private synchronized void jobChanged(long jobId) {
+        List<Object[]> rows = jobRepo.findMatchFieldsById(JobStatus.OPEN, jobId);
+        OpenJob current = openJobs.get(jobId);
+        if (!rows.isEmpty() && current == null) {
+            OpenJob job = openJob(rows.get(0));
+            index(job);
+            offer(job);
+        } else if (rows.isEmpty() && current != null) {
+            unindex(current);
+            for (long userId : usersSharing(List.of(current))) {
+                if (contains(topByUser.getOrDefault(userId, NO_MATCHES), current.id())) recompute(userId);
+            }
+        } else {
+            return;
+        }
+        refreshNewest();
+    }
+
+    private synchronized void profileChanged(long userId) {
+        List<Object[]> rows = freelancerRepo.findSearchFieldsByUserId(userId);
+        int termsBefore = termIds.size();
+        setSkills(userId, rows.isEmpty() ? null : (String) rows.get(0)[4]);
+        if (termIds.size() > termsBefore) {
+            // new dictionary terms may occur in jobs indexed before they existed
+            List<OpenJob> changed = new ArrayList<>();
+            for (OpenJob job : List.copyOf(openJobs.values())) {
+                long[] bits = bitsOf(job.words());
+                if (Arrays.equals(bits, job.bits())) continue;
+                unindex(job);
+                OpenJob updated = job.withBits(bits);
+                index(updated);
+                changed.add(updated);
+            }
+            for (long other : usersSharing(changed)) recompute(other);
+        }
+        recompute(userId);
+    }
+
+    // ---- index maintenance, called under the matcher lock ----
+
+    private void setSkills(long userId, String csv) {
+        long[] before = userBits.getOrDefault(userId, NONE);
+        long[] after = NONE;
+        if (csv != null) {
+            for (String skill : csv.split(",")) {
+                String term = String.join(" ", words(skill));
+                if (term.isEmpty() || term.chars().filter(c -> c == ' ').count() >= MAX_TERM_WORDS) continue;
+                after = set(after, termIds.computeIfAbsent(term, t -> termIds.size()));
+            }
+        }
+        long[] finalAfter = after;
+        forEachBit(before, t -> { if (!get(finalAfter, t)) usersByTerm.computeIfPresent(t, (id, users) -> remove(users, userId)); });
+        forEachBit(after, t -> { if (!get(before, t)) usersByTerm.compute(t, (id, users) -> insert(users, userId)); });
+        if (after.length == 0) {
+            userBits.remove(userId);
+            topByUser.remove(userId);
+        } else {
+            userBits.put(userId, after);
+        }
+    }
+
+    private void index(OpenJob job) {
+        openJobs.put(job.id(), job);
+        forEachBit(job.bits(), t -> jobsByTerm.compute(t, (id, jobs) -> insert(jobs, job.id())));
+    }
+
+    private void unindex(OpenJob job) {
+        openJobs.remove(job.id());
+        forEachBit(job.bits(), t -> jobsByTerm.computeIfPresent(t, (id, jobs) -> remove(jobs, job.id())));
+    }
+
+    /** Merges a newly opened job into the lists of the freelancers it overlaps with. */
+    private void offer(OpenJob job) {
+        for (long userId : usersSharing(List.of(job))) {
+            double score = jaccard(userBits.get(userId), job.bits());
+            Match[] top = topByUser.getOrDefault(userId, NO_MATCHES);
+            if (top.length == topK && !better(score, job, top[top.length - 1])) continue;
+            Match[] next = Arrays.copyOf(top, Math.min(top.length + 1, topK));
+            int at = top.length == topK ? topK - 1 : top.length;
+            while (at > 0 && better(score, job, next[at - 1])) {
+                next[at] = next[at - 1];
+                at--;
+            }
+            next[at] = new Match(job, score);
+            topByUser.put(userId, next);
+        }
+    }
+
+    /** Rescores one freelancer against every open job sharing at least one term. */
+    private void recompute(long userId) {
+        long[] bits = userBits.get(userId);
+        if (bits == null) return;
+        Set<Long> seen = new HashSet<>();
+        PriorityQueue<Match> worstFirst = new PriorityQueue<>(topK + 1,
+                (a, b) -> better(a.score(), a.job(), b) ? 1 : better(b.score(), b.job(), a) ? -1 : 0);
+        forEachBit(bits, t -> {
+            for (long jobId : jobsByTerm.getOrDefault(t, NONE)) {
+                if (!seen.add(jobId)) continue;
+                OpenJob job = openJobs.get(jobId);
+                worstFirst.add(new Match(job, jaccard(bits, job.bits())));
+                if (worstFirst.size() > topK) worstFirst.poll();
+            }
+        });
+        Match[] top = new Match[worstFirst.size()];
+        for (int i = top.length - 1; i >= 0; i--) top[i] = worstFirst.poll();
+        if (top.length == 0) topByUser.remove(userId);
+        else topByUser.put(userId, top);
+    }
+
+    private Set<Long> usersSharing(Collection<OpenJob> jobs) {
+        Set<Long> users = new HashSet<>();
+        for (OpenJob job : jobs) {
+            forEachBit(job.bits(), t -> { for (long u : usersByTerm.getOrDefault(t, NONE)) users.add(u); });
+        }
+        return users;
+    }
+
+    private void refreshNewest() {
+        newest = openJobs.values().stream().sorted(NEWEST_FIRST).limit(topK).toList();
+    }
+
+    private OpenJob openJob(Object[] r) {
+        String[] words = words(r[1] + " " + (r[2] == null ? "" : r[2]));
+        return new OpenJob((Long) r[0], (String) r[1], (Long) r[3], (String) r[4], (Instant) r[5], words, bitsOf(words));
+    }
+
+    /** Dictionary terms occurring in the text, as word n-grams of up to {@link #MAX_TERM_WORDS} words. */
+    private long[] bitsOf(String[] words) {
+        long[] bits = NONE;
+        StringBuilder gram = new StringBuilder();
+        for (int i = 0; i < words.length; i++) {
+            gram.setLength(0);
+            for (int n = 0; n < MAX_TERM_WORDS && i + n < words.length; n++) {
+                if (n > 0) gram.append(' ');
+                gram.append(words[i + n]);
+                Integer term = termIds.get(gram.toString());
+                if (term != null) bits = set(bits, term);
+            }
+        }
+        return bits;
+    }
+
+    // ---- bitsets ----
+
+    private static String[] words(String text) {
+        return Arrays.stream(SPLIT.split(text.toLowerCase(Locale.ROOT))).filter(w -> !w.isEmpty()).toArray(String[]::new);
+    }
+
+    private static double jaccard(long[] a, long[] b) {
+        int shared = 0, union = 0;
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            long x = i < a.length ? a[i] : 0, y = i < b.length ? b[i] : 0;
+            shared += Long.bitCount(x & y);
+            union += Long.bitCount(x | y);
+        }
+        return union == 0 ? 0 : (double) shared / union;
+    }
+
+    // higher score first, then the newer job
+    private static boolean better(double score, OpenJob job, Match than) {
+        if (score != than.score()) return score > than.score();
+        return NEWEST_FIRST.compare(job, than.job()) < 0;
+    }
+
+    private static long[] set(long[] bits, int bit) {
+        long[] out = bits.length > bit >> 6 ? bits.clone() : Arrays.copyOf(bits, (bit >> 6) + 1);
+        out[bit >> 6] |= 1L << bit;
+        return out;
+    }
+
+    private static boolean get(long[] bits, int bit) {
+        return bits.length > bit >> 6 && (bits[bit >> 6] & 1L << bit) != 0;
+    }
+
+    private static void forEachBit(long[] bits, IntConsumer action) {
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) action.accept(w << 6 | Long.numberOfTrailingZeros(word));
+        }
+    }
+
+    private static boolean contains(Match[] top, long jobId) {
+        for (Match m : top) if (m.job().id() == jobId) return true;
+        return false;
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) return new long[]{id};
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) return ids;
+        at = -at - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) return ids;
+        if (ids.length == 1) return null;
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, ids.length - at - 1);
+        return next;
+    }
+
+    record OpenJob(long id, String title, long budgetCents, String clientEmail, Instant createdAt, String[] words, long[] bits) {
+        OpenJob withBits(long[] next) { return new OpenJob(id, title, budgetCents, clientEmail, createdAt, words, next); }
+        Recommendation recommendation(double score) { return new Recommendation(id, title, budgetCents, clientEmail, score); }
+    }
+
+    record Match(OpenJob job, double score) {}
+
+    /** {@code score} is 0 for jobs padded in because they are new rather than matching. */
+    public record Recommendation(long jobId, String title, long budgetCents, String clientEmail, double score) {}
+}
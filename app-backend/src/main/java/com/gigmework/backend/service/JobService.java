@@ -1,14 +1,23 @@
 package com.gigmework.backend.service;
 
 import com.gigmework.backend.domain.Job;
+import com.gigmework.backend.domain.JobStatus;
 import com.gigmework.backend.domain.UserAccount;
 import com.gigmework.backend.domain.UserRole;
+import com.gigmework.backend.event.JobChangedEvent;
+import com.gigmework.backend.repo.FreelancerStatsRepository;
 import com.gigmework.backend.repo.JobRepository;
+import com.gigmework.backend.repo.JobRow;
 import com.gigmework.backend.repo.UserAccountRepository;
-import org.springframework.data.domain.Sort;
+import com.gigmework.backend.util.KeysetCursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,23 +26,41 @@ import java.util.Optional;
 public class JobService {
     private final JobRepository jobRepo;
     private final UserAccountRepository userRepo;
+    private final FreelancerStatsRepository statsRepo;
+    private final ApplicationEventPublisher events;
 
-    public JobService(JobRepository jobRepo, UserAccountRepository userRepo) {
+    public JobService(JobRepository jobRepo, UserAccountRepository userRepo, FreelancerStatsRepository statsRepo, ApplicationEventPublisher events) {
         this.jobRepo = jobRepo;
         this.userRepo = userRepo;
+        this.statsRepo = statsRepo;
+        this.events = events;
     }
 
     @Transactional(readOnly = true)
     public List<Job> listJobs() {
-        return jobRepo.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return jobRepo.findAllByOrderByCreatedAtDesc();
+    }
+
+    /** Keyset page of jobs in {@code statuses} with a budget in [minBudget, maxBudget], newest first. */
+    @Transactional(readOnly = true)
+    public Slice<JobRow> pageJobs(Collection<JobStatus> statuses, long minBudget, long maxBudget, KeysetCursor before, int size) {
+        if (statuses.isEmpty()) throw new IllegalArgumentException("status required");
+        if (minBudget > maxBudget) throw new IllegalArgumentException("minBudget must not exceed maxBudget");
+        PageRequest limit = PageRequest.of(0, size + 1); // one extra row tells us whether a next page exists
+        List<JobRow> rows = before == null
+                ? jobRepo.findRows(statuses, minBudget, maxBudget, limit)
+                : jobRepo.findRowsBefore(statuses, minBudget, maxBudget, before.createdAt(), before.id(), limit);
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
     }
 
     public Job createJob(String title, String description) {
         if (title == null || title.isBlank()) throw new IllegalArgumentException("title required");
         // pick any client user as owner (dev simplification)
         Optional<UserAccount> owner = userRepo.findByRole(UserRole.CLIENT).stream().findFirst();
-        Job job = new Job(title.trim(), description, owner.orElse(null));
-        return jobRepo.save(job);
+        Job job = jobRepo.save(new Job(title.trim(), description, owner.orElse(null)));
+        events.publishEvent(new JobChangedEvent(job.getId(), null));
+        return job;
     }
 
     @Transactional(readOnly = true)
@@ -47,14 +74,31 @@ public class JobService {
         return jobRepo.findByStatusAndAssignedFreelancerIsNull(com.gigmework.backend.domain.JobStatus.OPEN);
     }
 
-    // Apply for a job: assign the given freelancer and set status to ASSIGNED
+    // Apply for a job: one conditional UPDATE, so concurrent applicants cannot both win and no row lock is held
     public Job applyForJob(Long jobId, UserAccount freelancer) {
-        Job job = jobRepo.findById(jobId).orElseThrow(() -> new IllegalArgumentException("Job not found"));
-        if (job.getStatus() != com.gigmework.backend.domain.JobStatus.OPEN || job.getAssignedFreelancer() != null) {
+        if (jobRepo.assignIfOpen(jobId, freelancer) == 0) {
+            if (!jobRepo.existsById(jobId)) throw new IllegalArgumentException("Job not found");
             throw new IllegalStateException("Job is not open for application");
         }
-        job.assignFreelancer(freelancer);
-        return jobRepo.save(job);
+        Job job = jobRepo.findWithUsersById(jobId).orElseThrow();
+        statsRepo.ensureRow(freelancer.getId());
+        statsRepo.lockRow(freelancer.getId());
+        statsRepo.recordAssignment(freelancer.getId(), job.getBudgetCents());
+        events.publishEvent(new JobChangedEvent(jobId, freelancer.getId()));
+        return job;
+    }
+
+    // Complete an assigned job; same conditional-update pattern as applyForJob
+    public Job completeJob(Long jobId) {
+        if (jobRepo.completeIfAssigned(jobId) == 0) {
+            if (!jobRepo.existsById(jobId)) throw new IllegalArgumentException("Job not found");
+            throw new IllegalStateException("Job is not assigned");
+        }
+        Job job = jobRepo.findWithUsersById(jobId).orElseThrow();
+        statsRepo.ensureRow(job.getAssignedFreelancer().getId());
+        statsRepo.recordCompletion(job.getAssignedFreelancer().getId());
+        events.publishEvent(new JobChangedEvent(jobId, job.getAssignedFreelancer().getId()));
+        return job;
     }
 
     // Find user by email
@@ -0,0 +1,37 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.repo.CreatorCard;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+/** Prefix LIKE search straight against {@code freelancer_profiles}; the fallback when no index is available. */
+@Service
+@Transactional(readOnly = true)
+public class JpaCreatorSearchEngine implements CreatorSearchEngine {
+    private final FreelancerProfileRepository freelancerRepo;
+
+    public JpaCreatorSearchEngine(FreelancerProfileRepository freelancerRepo) {
+        this.freelancerRepo = freelancerRepo;
+    }
+
+    @Override
+    public List<CreatorCard> search(String query, int limit) {
+        return freelancerRepo.searchPrefix(query, PageRequest.of(0, limit));
+    }
+
+    // ordered by display name whatever the query, so the default rank() (keep the order) is right
+
+    @Override
+    public boolean matches(String query, String displayName, String professionalTitle, String skillsCsv) {
+        return startsWith(displayName, query) || startsWith(professionalTitle, query) || startsWith(skillsCsv, query);
+    }
+
+    private static boolean startsWith(String value, String prefix) {
+        return value != null && value.toLowerCase(Locale.ROOT).startsWith(prefix);
+    }
+}
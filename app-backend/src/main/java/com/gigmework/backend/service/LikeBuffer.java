@@ -0,0 +1,349 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.domain.PostLike;
+import com.gigmework.backend.event.PostLikeChangedEvent;
+import com.gigmework.backend.event.PostLikesSettledEvent;
+import com.gigmework.backend.repo.PostLikeRepository;
+import com.gigmework.backend.repo.PostRepository;
+import com.gigmework.backend.repo.UserAccountRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind pipeline for post likes.
+ * <p>
+ * Like/unlike calls only record the desired state per (post, user) in lock-striped maps and adjust a
+ * {@link LongAdder} per post, so a viral post never takes row locks on the request path. Pending events
+ * are written to {@code post_likes} in one transaction every {@code app.likes.flush-interval-ms} or as soon
+ * as {@code app.likes.flush-threshold} events are waiting. The unique (post_id, user_id) constraint stays the
+ * source of truth: counts are optimistic until the flush reports what it actually inserted or deleted. A like
+ * or unlike that matches the stored state is dropped, so repeating it cannot move the count. While a flush is
+ * writing, its batch stays visible as in flight: it is the state later events for those keys start from.
+ */
+@Service
+public class LikeBuffer {
+    private static final Logger log = LoggerFactory.getLogger(LikeBuffer.class);
+    private static final int STRIPES = 32;
+
+    private final PostLikeRepository likeRepo;
+    private final PostRepository postRepo;
+    private final UserAccountRepository userRepo;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher events;
+    private final ExistenceFilters filters;
+    private final int flushThreshold;
+    private final int maxTrackedPosts;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final ConcurrentHashMap<Long, LongAdder> pendingDelta = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> persistedCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final AtomicLong flushes = new AtomicLong(); // bumped when a batch is drained and when it lands: odd while one is in flight
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "like-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public LikeBuffer(PostLikeRepository likeRepo,
+                      PostRepository postRepo,
+                      UserAccountRepository userRepo,
+                      PlatformTransactionManager txManager,
+                      ApplicationEventPublisher events,
+                      ExistenceFilters filters,
+                      @Value("${app.likes.flush-threshold:500}") int flushThreshold,
+                      @Value("${app.likes.max-tracked-posts:100000}") int maxTrackedPosts) {
+        this.likeRepo = likeRepo;
+        this.postRepo = postRepo;
+        this.userRepo = userRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.events = events;
+        this.filters = filters;
+        this.flushThreshold = flushThreshold;
+        this.maxTrackedPosts = maxTrackedPosts;
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Stripe();
+    }
+
+    public void like(long postId, long userId) { accept(postId, userId, true); }
+    public void unlike(long postId, long userId) { accept(postId, userId, false); }
+
+    private void accept(long postId, long userId, boolean liked) {
+        Key key = new Key(postId, userId);
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), STRIPES)];
+        int delta;
+        boolean newEvent = false;
+        while (true) {
+            long seen = flushes.get();
+            // the stored state only matters for the first event of a key since the last flush
+            boolean buffered = pendingState(postId, userId) != null;
+            // the filter only knows this instance's writes: a negative may count a like, but never drop an unlike
+            boolean verified = liked || filters.likes().mightContain(postId, userId);
+            boolean persisted = !buffered && verified && persistedState(postId, userId);
+            if (liked && !buffered && !persisted) requireExists(postId, userId);
+            synchronized (stripe) {
+                Pending p = stripe.pending.get(key);
+                if (p == null) {
+                    Pending writing = stripe.inFlight.get(key);
+                    if (writing != null) {
+                        // a batch being written is ahead of the stored state
+                        if (writing.liked == liked) return;
+                        p = new Pending(liked, liked ? 1 : -1);
+                    } else {
+                        if (buffered || flushes.get() != seen) continue; // moved by a flush since we looked; read again
+                        if (!verified) p = new Pending(false, 0); // the flush finds out whether there is a like to delete
+                        else if (persisted == liked) return; // already in that state: nothing to write or count
+                        else p = new Pending(liked, liked ? 1 : -1);
+                    }
+                    stripe.pending.put(key, p);
+                    delta = p.contributed;
+                    newEvent = true;
+                } else if (p.liked == liked) {
+                    delta = 0;
+                } else {
+                    p.liked = liked;
+                    delta = liked ? 1 : -1;
+                    p.contributed += delta;
+                }
+            }
+            break;
+        }
+        if (delta != 0) {
+            addDelta(postId, delta);
+            events.publishEvent(new PostLikeChangedEvent(postId, userId, liked));
+        }
+        if (newEvent && pendingEvents.incrementAndGet() >= flushThreshold) flusher.execute(this::flush);
+    }
+
+    public long likeCount(long postId) {
+        Long persisted = persistedCounts.get(postId);
+        if (persisted == null) {
+            long stamp = readStamp();
+            persisted = likeRepo.countByPostId(postId);
+            track(postId, persisted, stamp);
+        }
+        return Math.max(0, persisted + delta(postId));
+    }
+
+    public boolean likedBy(long postId, long userId) {
+        Boolean pending = pendingState(postId, userId);
+        if (pending != null) return pending;
+        return persistedState(postId, userId);
+    }
+
+    /** Taken before reading counts from {@code post_likes}; tells {@link #overlay} which flushes the read may include. */
+    long readStamp() { return flushes.get(); }
+
+    /** Applies not-yet-flushed events on top of stats freshly read from {@code post_likes} after {@code stamp}. */
+    PostService.LikeStats overlay(long postId, Long viewerId, PostService.LikeStats persisted, long stamp) {
+        track(postId, persisted.count(), stamp);
+        long count = Math.max(0, persisted.count() + delta(postId));
+        Boolean pending = viewerId == null ? null : pendingState(postId, viewerId);
+        return new PostService.LikeStats(count, pending != null ? pending : persisted.likedByMe());
+    }
+
+    @Scheduled(fixedDelayString = "${app.likes.flush-interval-ms:500}")
+    public void flush() {
+        if (!flushLock.tryLock()) return; // a flush is already running and will pick these events up next round
+        try {
+            Map<Key, Pending> batch = drain();
+            if (batch.isEmpty()) return;
+            try {
+                Map<Long, Long> applied;
+                try {
+                    applied = tx.execute(status -> write(batch));
+                } catch (DataIntegrityViolationException e) {
+                    // another instance raced us on (post_id,user_id), or an id no longer exists
+                    applied = writeOneByOne(batch);
+                } catch (RuntimeException e) {
+                    log.warn("Like flush of {} events failed, will retry: {}", batch.size(), e.getMessage());
+                    requeue(batch);
+                    return;
+                }
+                settle(batch, applied);
+            } finally {
+                land();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /** Moves all pending events into the batch; they stay visible as in flight until {@link #land()}. */
+    private Map<Key, Pending> drain() {
+        Map<Key, Pending> batch = new HashMap<>();
+        for (Stripe s : stripes) {
+            synchronized (s) {
+                if (s.pending.isEmpty()) continue;
+                batch.putAll(s.pending);
+                s.inFlight = s.pending;
+                s.pending = new HashMap<>();
+            }
+        }
+        pendingEvents.addAndGet(-batch.size());
+        if (!batch.isEmpty()) flushes.incrementAndGet();
+        return batch;
+    }
+
+    /** The batch is committed (and settled) or requeued: from here the stored state or pending events answer. */
+    private void land() {
+        for (Stripe s : stripes) {
+            synchronized (s) {
+                s.inFlight = Map.of();
+            }
+        }
+        flushes.incrementAndGet();
+    }
+
+    /** Writes the batch and returns, per post, the number of rows actually added (negative when removed). */
+    private Map<Long, Long> write(Map<Key, Pending> batch) {
+        Set<Long> postIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        batch.keySet().forEach(k -> { postIds.add(k.postId()); userIds.add(k.userId()); });
+        Map<Key, Long> existing = new HashMap<>();
+        for (Object[] r : likeRepo.findLikesAmong(postIds, userIds)) {
+            existing.put(new Key((Long) r[1], (Long) r[2]), (Long) r[0]);
+        }
+        Map<Long, Long> applied = new HashMap<>();
+        List<Long> toDelete = new ArrayList<>();
+        List<PostLike> toInsert = new ArrayList<>();
+        batch.forEach((k, p) -> {
+            Long likeId = existing.get(k);
+            if (p.liked && likeId == null) {
+                toInsert.add(new PostLike(postRepo.getReferenceById(k.postId()), userRepo.getReferenceById(k.userId())));
+                filters.likes().add(k.postId(), k.userId());
+                applied.merge(k.postId(), 1L, Long::sum);
+            } else if (!p.liked && likeId != null) {
+                toDelete.add(likeId);
+                applied.merge(k.postId(), -1L, Long::sum);
+            }
+        });
+        if (!toDelete.isEmpty()) likeRepo.deleteAllByIdInBatch(toDelete);
+        if (!toInsert.isEmpty()) likeRepo.saveAll(toInsert);
+        return applied;
+    }
+
+    private Map<Long, Long> writeOneByOne(Map<Key, Pending> batch) {
+        Map<Long, Long> applied = new HashMap<>();
+        batch.forEach((k, p) -> {
+            try {
+                Map<Long, Long> one = tx.execute(status -> write(Map.of(k, p)));
+                if (one != null) one.forEach((post, d) -> applied.merge(post, d, Long::sum));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Dropping like event {} -> {}: {}", k, p.liked, e.getMessage());
+            }
+        });
+        return applied;
+    }
+
+    private void settle(Map<Key, Pending> batch, Map<Long, Long> applied) {
+        applied.forEach((postId, d) -> persistedCounts.computeIfPresent(postId, (id, c) -> Math.max(0, c + d)));
+        Map<Long, Long> optimistic = new HashMap<>();
+        batch.forEach((k, p) -> optimistic.merge(k.postId(), (long) p.contributed, Long::sum));
+        optimistic.forEach((postId, c) -> {
+            if (c != 0) addDelta(postId, -c);
+            pendingDelta.computeIfPresent(postId, (id, adder) -> adder.sum() == 0 ? null : adder);
+        });
+        applied.values().removeIf(d -> d == 0);
+        if (!applied.isEmpty()) events.publishEvent(new PostLikesSettledEvent(Map.copyOf(applied)));
+    }
+
+    private void requeue(Map<Key, Pending> batch) {
+        batch.forEach((k, old) -> {
+            Stripe s = stripes[Math.floorMod(k.hashCode(), STRIPES)];
+            synchronized (s) {
+                Pending newer = s.pending.get(k);
+                if (newer == null) {
+                    s.pending.put(k, old);
+                    pendingEvents.incrementAndGet();
+                } else {
+                    newer.contributed += old.contributed; // keep the newest desired state, carry the count adjustment
+                }
+            }
+        });
+    }
+
+    private void addDelta(long postId, long delta) {
+        while (true) {
+            LongAdder adder = pendingDelta.computeIfAbsent(postId, id -> new LongAdder());
+            adder.add(delta);
+            if (pendingDelta.get(postId) == adder) return;
+            // settle() dropped this adder as zero while we were adding to it; apply again to the live one
+        }
+    }
+
+    private long delta(long postId) {
+        LongAdder adder = pendingDelta.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private Boolean pendingState(long postId, long userId) {
+        Key key = new Key(postId, userId);
+        Stripe s = stripes[Math.floorMod(key.hashCode(), STRIPES)];
+        synchronized (s) {
+            Pending p = s.pending.get(key);
+            if (p == null) p = s.inFlight.get(key);
+            return p == null ? null : p.liked;
+        }
+    }
+
+    private boolean persistedState(long postId, long userId) {
+        return filters.likes().exists(postId, userId, () -> likeRepo.existsByPostIdAndUserId(postId, userId));
+    }
+
+    private void requireExists(long postId, long userId) {
+        if (!postRepo.existsById(postId)) throw new IllegalArgumentException("post not found");
+        if (!userRepo.existsById(userId)) throw new IllegalArgumentException("user not found");
+    }
+
+    /**
+     * Caches a count read from {@code post_likes} as the base settle() adjusts, unless a flush was in flight or
+     * landed since {@code stamp}: the read may then already include a batch that settle() adds again. The check
+     * runs under the entry's lock, which settle() takes too after its drain moved the stamp on.
+     */
+    private void track(long postId, long persisted, long stamp) {
+        if ((stamp & 1) != 0) return;
+        if (persistedCounts.size() >= maxTrackedPosts) persistedCounts.clear(); // counts reload lazily
+        persistedCounts.compute(postId, (id, c) -> flushes.get() == stamp ? Long.valueOf(persisted) : c);
+    }
+
+    record Key(long postId, long userId) {}
+
+    private static final class Stripe {
+        Map<Key, Pending> pending = new HashMap<>();
+        Map<Key, Pending> inFlight = Map.of(); // drained by the running flush, not yet committed
+    }
+
+    private static final class Pending {
+        boolean liked;
+        int contributed; // optimistic change already applied to pendingDelta for this key
+
+        Pending(boolean liked, int contributed) {
+            this.liked = liked;
+            this.contributed = contributed;
+        }
+    }
+}
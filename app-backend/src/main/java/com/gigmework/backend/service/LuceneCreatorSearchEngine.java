@@ -0,0 +1,221 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.repo.CreatorCard;
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded Lucene index over display name, professional title and skills, ranked with field boosts
+ * (name > title > skills, exact terms > prefixes). Rebuilt from the table at startup, then kept current from
+ * {@link FreelancerProfileChangedEvent} after commit with near-real-time reopen. Since every start rebuilds it from
+ * the table anyway, the index lives in memory; until the first build completes, searches go to
+ * {@link JpaCreatorSearchEngine}. Both paths upsert by user id, so a profile change racing the startup build
+ * still leaves one document per user.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "lucene", matchIfMissing = true)
+public class LuceneCreatorSearchEngine implements CreatorSearchEngine {
+    private static final Logger log = LoggerFactory.getLogger(LuceneCreatorSearchEngine.class);
+    private static final int LOAD_CHUNK = 2_000;
+    private static final String USER_ID = "userId";
+    private static final String NAME = "name";
+    private static final String TITLE = "title";
+    private static final String SKILLS = "skills";
+    private static final String NAME_SORT = "nameSort";
+    private static final Map<String, Float> BOOSTS = Map.of(NAME, 3f, TITLE, 2f, SKILLS, 1.5f);
+    private static final float PREFIX_BOOST = 0.5f; // relative to an exact term match in the same field
+
+    private final FreelancerProfileRepository freelancerRepo;
+    private final JpaCreatorSearchEngine fallback;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searchers;
+    private volatile boolean ready;
+
+    public LuceneCreatorSearchEngine(FreelancerProfileRepository freelancerRepo,
+                                     JpaCreatorSearchEngine fallback) throws IOException {
+        this.freelancerRepo = freelancerRepo;
+        this.fallback = fallback;
+        this.directory = new ByteBuffersDirectory();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searchers = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE) // before CreatorSearchCache warms up from it
+    public void rebuild() throws IOException {
+        long afterId = 0;
+        int indexed = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = freelancerRepo.findSearchFieldsAfter(afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                writer.updateDocument(new Term(USER_ID, r[1].toString()), document(r));
+            }
+            indexed += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK);
+        searchers.maybeRefreshBlocking();
+        ready = true;
+        log.info("Creator search index: {} profiles indexed", indexed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE) // before CreatorSearchCache invalidates, so reloads see the update
+    public void onProfileChanged(FreelancerProfileChangedEvent e) throws IOException {
+        Term key = new Term(USER_ID, e.userId().toString());
+        List<Object[]> rows = freelancerRepo.findSearchFieldsByUserId(e.userId());
+        if (rows.isEmpty()) writer.deleteDocuments(key);
+        else writer.updateDocument(key, document(rows.get(0)));
+        searchers.maybeRefresh();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searchers.close();
+        writer.close();
+        directory.close();
+    }
+
+    @Override
+    public List<CreatorCard> search(String query, int limit) {
+        if (!ready) return fallback.search(query, limit);
+        List<String> terms = analyze(query);
+        if (terms.isEmpty()) return List.of();
+        List<Long> userIds = rankedUserIds(query(terms), limit);
+        if (userIds.isEmpty()) return List.of();
+        Map<Long, CreatorCard> byUser = freelancerRepo.findCardsByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(CreatorCard::userId, Function.identity()));
+        return userIds.stream().map(byUser::get).filter(Objects::nonNull).toList();
+    }
+
+    /** Re-scores the given hits against {@code query}, restricted to their user ids; no card lookups. */
+    @Override
+    public List<CreatorCard> rank(String query, List<CreatorCard> hits) {
+        if (!ready || hits.size() < 2) return hits;
+        List<String> terms = analyze(query);
+        if (terms.isEmpty()) return hits;
+        Map<Long, CreatorCard> byUser = new LinkedHashMap<>();
+        for (CreatorCard h : hits) byUser.put(h.userId(), h);
+        List<BytesRef> ids = byUser.keySet().stream().map(id -> new BytesRef(id.toString())).toList();
+        Query among = new BooleanQuery.Builder()
+                .add(query(terms), BooleanClause.Occur.MUST)
+                .add(new TermInSetQuery(USER_ID, ids), BooleanClause.Occur.FILTER)
+                .build();
+        List<CreatorCard> out = new ArrayList<>(hits.size());
+        for (Long userId : rankedUserIds(among, byUser.size())) {
+            CreatorCard card = byUser.remove(userId);
+            if (card != null) out.add(card);
+        }
+        out.addAll(byUser.values()); // not in the index right now (concurrent change): keep them, last
+        return out;
+    }
+
+    private List<Long> rankedUserIds(Query query, int limit) {
+        List<Long> userIds = new ArrayList<>(limit);
+        try {
+            IndexSearcher searcher = searchers.acquire();
+            try {
+                Sort relevance = new Sort(SortField.FIELD_SCORE, new SortField(NAME_SORT, SortField.Type.STRING));
+                for (ScoreDoc hit : searcher.search(query, limit, relevance).scoreDocs) {
+                    userIds.add(Long.parseLong(searcher.storedFields().document(hit.doc).get(USER_ID)));
+                }
+            } finally {
+                searchers.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return userIds;
+    }
+
+    @Override
+    public boolean matches(String query, String displayName, String professionalTitle, String skillsCsv) {
+        List<String> terms = analyze(query);
+        if (terms.isEmpty()) return false;
+        Set<String> words = new HashSet<>(analyze(displayName == null ? "" : displayName));
+        if (professionalTitle != null) words.addAll(analyze(professionalTitle));
+        if (skillsCsv != null) words.addAll(analyze(skillsCsv.replace(',', ' ')));
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            boolean last = i == terms.size() - 1;
+            if (!(last ? words.stream().anyMatch(w -> w.startsWith(term)) : words.contains(term))) return false;
+        }
+        return true;
+    }
+
+    /** Every query term must match some field; the last one may be an unfinished word and also matches as a prefix. */
+    private Query query(List<String> terms) {
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            boolean last = i == terms.size() - 1;
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            for (Map.Entry<String, Float> field : BOOSTS.entrySet()) {
+                Term term = new Term(field.getKey(), terms.get(i));
+                anyField.add(new BoostQuery(new TermQuery(term), field.getValue()), BooleanClause.Occur.SHOULD);
+                if (last) {
+                    anyField.add(new BoostQuery(new PrefixQuery(term), field.getValue() * PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+                }
+            }
+            all.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return all.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> out = new ArrayList<>();
+        try (TokenStream ts = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = ts.addAttribute(CharTermAttribute.class);
+            ts.reset();
+            while (ts.incrementToken()) out.add(term.toString());
+            ts.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    // r = [id, userId, displayName, professionalTitle, skillsCsv]
+    private static Document document(Object[] r) {
+        String name = (String) r[2];
+        Document doc = new Document();
+        doc.add(new StringField(USER_ID, r[1].toString(), Field.Store.YES));
+        doc.add(new TextField(NAME, name, Field.Store.NO));
+        if (r[3] != null) doc.add(new TextField(TITLE, (String) r[3], Field.Store.NO));
+        if (r[4] != null) doc.add(new TextField(SKILLS, ((String) r[4]).replace(',', ' '), Field.Store.NO));
+        doc.add(new SortedDocValuesField(NAME_SORT, new BytesRef(name.toLowerCase(Locale.ROOT))));
+        return doc;
+    }
+}
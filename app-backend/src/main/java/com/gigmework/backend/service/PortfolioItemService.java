@@ -3,8 +3,10 @@ package com.gigmework.backend.service;
 import com.gigmework.backend.domain.MediaType;
 import com.gigmework.backend.domain.PortfolioItem;
 import com.gigmework.backend.domain.UserAccount;
+import com.gigmework.backend.event.PortfolioItemCreatedEvent;
 import com.gigmework.backend.repo.PortfolioItemRepository;
 import com.gigmework.backend.repo.UserAccountRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,10 +15,12 @@ import java.util.List;
 public class PortfolioItemService {
     private final PortfolioItemRepository portfolioItemRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher events;
 
-    public PortfolioItemService(PortfolioItemRepository portfolioItemRepository, UserAccountRepository userAccountRepository) {
+    public PortfolioItemService(PortfolioItemRepository portfolioItemRepository, UserAccountRepository userAccountRepository, ApplicationEventPublisher events) {
         this.portfolioItemRepository = portfolioItemRepository;
         this.userAccountRepository = userAccountRepository;
+        this.events = events;
     }
 
 
@@ -25,7 +29,9 @@ public class PortfolioItemService {
                                             Long fileSize, Integer width, Integer height, Integer durationSeconds, String thumbnailUrl) {
         UserAccount freelancer = userAccountRepository.findById(freelancerId).orElseThrow();
         PortfolioItem item = new PortfolioItem(freelancer, title, description, fileUrl, mediaType, fileSize, width, height, durationSeconds, thumbnailUrl);
-        return portfolioItemRepository.save(item);
+        PortfolioItem saved = portfolioItemRepository.save(item);
+        events.publishEvent(new PortfolioItemCreatedEvent(freelancerId, saved.getId()));
+        return saved;
     }
 
     public List<PortfolioItem> getPortfolioItems(Long freelancerId, MediaType mediaType) {
@@ -2,12 +2,23 @@ package com.gigmework.backend.service;
 
 import com.gigmework.backend.domain.*;
 import com.gigmework.backend.repo.*;
+import com.gigmework.backend.event.PostCreatedEvent;
+import com.gigmework.backend.util.KeysetCursor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PostService {
@@ -15,12 +26,20 @@ public class PostService {
     private final PostMediaRepository postMediaRepository;
     private final PostLikeRepository postLikeRepository;
     private final UserAccountRepository userAccountRepository;
+    private final TimelineService timelineService;
+    private final LikeBuffer likeBuffer;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher events;
 
-    public PostService(PostRepository postRepository, PostMediaRepository postMediaRepository, PostLikeRepository postLikeRepository, UserAccountRepository userAccountRepository) {
+    public PostService(PostRepository postRepository, PostMediaRepository postMediaRepository, PostLikeRepository postLikeRepository, UserAccountRepository userAccountRepository, TimelineService timelineService, LikeBuffer likeBuffer, TrendingService trendingService, ApplicationEventPublisher events) {
         this.postRepository = postRepository;
         this.postMediaRepository = postMediaRepository;
         this.postLikeRepository = postLikeRepository;
         this.userAccountRepository = userAccountRepository;
+        this.timelineService = timelineService;
+        this.likeBuffer = likeBuffer;
+        this.trendingService = trendingService;
+        this.events = events;
     }
 
     @Transactional
@@ -33,7 +52,11 @@ public class PostService {
             PostMedia pm = new PostMedia(post, spec.url(), spec.mediaType(), idx++, spec.width(), spec.height(), spec.durationSeconds(), spec.thumbnailUrl());
             post.getMedia().add(pm);
         }
-        return postRepository.save(post); // cascade persists media
+        post = postRepository.save(post); // cascade persists media
+        userAccountRepository.addPosts(authorId, 1);
+        timelineService.fanOut(post);
+        events.publishEvent(new PostCreatedEvent(post.getId(), authorId, post.getCreatedAt()));
+        return post;
     }
 
     public record MediaSpec(String url, MediaType mediaType, Integer width, Integer height, Integer durationSeconds, String thumbnailUrl) {}
@@ -42,20 +65,87 @@ public class PostService {
         return postRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(page, size));
     }
 
-    public long likeCount(Long postId) { return postLikeRepository.countByPostId(postId); }
-    public boolean likedBy(Long postId, Long userId) { return userId != null && postLikeRepository.existsByPostIdAndUserId(postId, userId); }
+    /** Keyset page of the global feed: posts strictly older than {@code before}, or the newest when null. */
+    @Transactional(readOnly = true)
+    public Slice<Post> listBefore(KeysetCursor before, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1); // one extra row tells us whether a next page exists
+        List<Long> ids = before == null
+                ? postRepository.findLatestIds(limit)
+                : postRepository.findIdsBefore(before.createdAt(), before.id(), limit);
+        return sliceOf(ids, size);
+    }
 
-    @Transactional
+    /** Keyset page of one author's posts, served by idx_posts_author_created_at. */
+    @Transactional(readOnly = true)
+    public Slice<Post> listByAuthor(Long authorId, KeysetCursor before, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Long> ids = before == null
+                ? postRepository.findLatestIdsByAuthor(authorId, limit)
+                : postRepository.findIdsByAuthorBefore(authorId, before.createdAt(), before.id(), limit);
+        return sliceOf(ids, size);
+    }
+
+    private Slice<Post> sliceOf(List<Long> idsPlusOne, int size) {
+        boolean hasNext = idsPlusOne.size() > size;
+        List<Long> ids = hasNext ? idsPlusOne.subList(0, size) : idsPlusOne;
+        return new SliceImpl<>(loadInOrder(ids), PageRequest.of(0, size), hasNext);
+    }
+
+    /** Keyset page of the user's home timeline: posts by people they follow, plus their own. */
+    @Transactional(readOnly = true)
+    public Slice<Post> home(Long userId, KeysetCursor before, int size) {
+        Slice<Long> ids = timelineService.page(userId, before, size);
+        return new SliceImpl<>(loadInOrder(ids.getContent()), ids.getPageable(), ids.hasNext());
+    }
+
+    /** Current top trending posts; the ranking itself is in memory, only the page of posts is loaded. */
+    @Transactional(readOnly = true)
+    public List<Post> trending(int limit) {
+        return loadInOrder(trendingService.top(limit).stream().map(TrendingService.Trending::postId).toList());
+    }
+
+    /** Loads posts with author and media in one query, keeping the order of {@code ids}. */
+    @Transactional(readOnly = true)
+    public List<Post> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Post> byId = postRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    public long likeCount(Long postId) { return likeBuffer.likeCount(postId); }
+    public boolean likedBy(Long postId, Long userId) { return userId != null && likeBuffer.likedBy(postId, userId); }
+
+    /**
+     * Like count and viewer like state for a whole page of posts in one grouped query.
+     * Includes likes still waiting in the {@link LikeBuffer}.
+     */
+    public Map<Long, LikeStats> likeStats(Collection<Long> postIds, Long viewerId) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<Long, LikeStats> persisted = new HashMap<>();
+        long stamp = likeBuffer.readStamp();
+        // ids are never negative, so -1 keeps the CASE comparison well-typed for anonymous viewers
+        for (Object[] r : postLikeRepository.likeStatsForPosts(postIds, viewerId == null ? -1L : viewerId)) {
+            persisted.put((Long) r[0], new LikeStats((Long) r[1], ((Number) r[2]).longValue() > 0));
+        }
+        Map<Long, LikeStats> stats = new HashMap<>();
+        for (Long id : postIds) {
+            stats.put(id, likeBuffer.overlay(id, viewerId, persisted.getOrDefault(id, LikeStats.NONE), stamp));
+        }
+        return stats;
+    }
+
+    public record LikeStats(long count, boolean likedByMe) {
+        public static final LikeStats NONE = new LikeStats(0, false);
+    }
+
+    // Likes are buffered and written to post_likes in batches, see LikeBuffer
     public void like(Long postId, Long userId) {
-        if (postLikeRepository.existsByPostIdAndUserId(postId, userId)) return;
-        Post post = postRepository.findById(postId).orElseThrow();
-        UserAccount user = userAccountRepository.findById(userId).orElseThrow();
-        postLikeRepository.save(new PostLike(post, user));
+        likeBuffer.like(postId, userId);
     }
 
-    @Transactional
     public void unlike(Long postId, Long userId) {
-        postLikeRepository.deleteByPostIdAndUserId(postId, userId);
+        likeBuffer.unlike(postId, userId);
     }
 }
 
@@ -0,0 +1,177 @@
+package com.gigmework.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent queries of one read in parallel, structured-concurrency style: branches are forked inside
+ * a {@link Scope}, each on a pool thread in its own read-only transaction (and connection), and all are joined
+ * before the scope closes. The caller waits for its slowest branch instead of the sum of them.
+ * <p>
+ * Each branch has a deadline ({@code app.fanout.branch-timeout-ms} unless given), which is also the transaction
+ * timeout, so the database gives up on the query too. A required branch that fails or times out fails the scope
+ * and cancels the others. An optional branch yields its fallback instead and the result is marked partial. The pool
+ * holds {@code app.fanout.threads} threads. A branch the saturated pool cannot take is never run on the calling
+ * thread, where no deadline could be enforced: an optional one yields its fallback, a required one fails the scope
+ * at once with a {@link RejectedExecutionException}.
+ */
+@Service
+public class ReadFanOut {
+    private static final Logger log = LoggerFactory.getLogger(ReadFanOut.class);
+
+    private final PlatformTransactionManager txManager;
+    private final MeterRegistry meters;
+    private final Duration defaultTimeout;
+    private final ThreadPoolExecutor pool;
+
+    public ReadFanOut(PlatformTransactionManager txManager,
+                      MeterRegistry meters,
+                      @Value("${app.fanout.threads:8}") int threads,
+                      @Value("${app.fanout.branch-timeout-ms:2000}") long branchTimeoutMs) {
+        this.txManager = txManager;
+        this.meters = meters;
+        this.defaultTimeout = Duration.ofMillis(branchTimeoutMs);
+        AtomicInteger n = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(threads * 4), r -> {
+            Thread t = new Thread(r, "read-fanout-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    /** Opens a scope; use with try-with-resources and call {@link Scope#join()} before reading branches. */
+    public Scope open(String name) { return new Scope(name); }
+
+    @PreDestroy
+    public void shutdown() { pool.shutdownNow(); }
+
+    public final class Scope implements AutoCloseable {
+        private final String name;
+        private final List<Branch<?>> branches = new ArrayList<>();
+        private boolean partial;
+
+        private Scope(String name) { this.name = name; }
+
+        /** A branch the read cannot do without: its failure or timeout is rethrown by {@link #join()}. */
+        public <T> Branch<T> required(String branch, Supplier<T> query) {
+            return fork(branch, true, null, defaultTimeout, query);
+        }
+
+        /** A branch that degrades to {@code fallback} when it fails or misses its deadline. */
+        public <T> Branch<T> optional(String branch, T fallback, Supplier<T> query) {
+            return fork(branch, false, fallback, defaultTimeout, query);
+        }
+
+        public <T> Branch<T> optional(String branch, T fallback, Duration timeout, Supplier<T> query) {
+            return fork(branch, false, fallback, timeout, query);
+        }
+
+        /** Waits for every branch up to its own deadline, in fork order. */
+        public void join() {
+            for (Branch<?> b : branches) b.await();
+        }
+
+        /** True when at least one optional branch fell back. */
+        public boolean isPartial() { return partial; }
+
+        @Override
+        public void close() {
+            for (Branch<?> b : branches) b.future.cancel(true);
+        }
+
+        private <T> Branch<T> fork(String branch, boolean required, T fallback, Duration timeout, Supplier<T> query) {
+            TransactionTemplate tx = new TransactionTemplate(txManager);
+            tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            tx.setReadOnly(true);
+            tx.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+            Branch<T> b = new Branch<>(this, branch, required, fallback, System.nanoTime() + timeout.toNanos());
+            try {
+                b.future = pool.submit(() -> tx.execute(status -> query.get()));
+            } catch (RejectedExecutionException e) {
+                if (required) {
+                    b.record("rejected");
+                    close();
+                    throw e;
+                }
+                b.future = CompletableFuture.failedFuture(e); // falls back in join()
+            }
+            branches.add(b);
+            return b;
+        }
+    }
+
+    public final class Branch<T> {
+        private final Scope scope;
+        private final String name;
+        private final boolean required;
+        private final T fallback;
+        private final long deadline;
+        private Future<T> future;
+        private boolean done;
+        private T value;
+
+        private Branch(Scope scope, String name, boolean required, T fallback, long deadline) {
+            this.scope = scope;
+            this.name = name;
+            this.required = required;
+            this.fallback = fallback;
+            this.deadline = deadline;
+        }
+
+        /** The branch result, or its fallback; only after {@link Scope#join()}. */
+        public T get() {
+            if (!done) throw new IllegalStateException("branch " + name + " read before join()");
+            return value;
+        }
+
+        private void await() {
+            if (done) return;
+            try {
+                value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                record("ok");
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failed("timeout", new QueryTimeoutException(scope.name + "." + name + " exceeded its deadline"));
+            } catch (ExecutionException e) {
+                failed(e.getCause() instanceof RejectedExecutionException ? "rejected" : "error", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed("error", e);
+            }
+            done = true;
+        }
+
+        private void failed(String outcome, Throwable cause) {
+            record(outcome);
+            if (required) {
+                scope.close();
+                if (cause instanceof RuntimeException re) throw re;
+                if (cause instanceof Error err) throw err;
+                throw new IllegalStateException(scope.name + "." + name + " failed", cause);
+            }
+            log.warn("{}.{} {}, serving a partial result: {}", scope.name, name, outcome, cause.toString());
+            scope.partial = true;
+            value = fallback;
+        }
+
+        private void record(String outcome) {
+            meters.counter("fanout.branches", "scope", scope.name, "branch", name, "outcome", outcome).increment();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.gigmework.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing for hot reads: concurrent calls of the same flight with an equal key share one in-flight
+ * computation and its result (or exception). Nothing is kept once the leader returns, so callers never see a result
+ * computed before they arrived unless they arrived while it was running; writers call {@link #forget} after commit
+ * so later callers start a fresh computation instead of joining one that may predate the write.
+ * <p>
+ * Each flight is switched by {@code app.singleflight.<flight>.enabled} (default {@code app.singleflight.enabled},
+ * true). Calls are counted in {@code singleflight.calls} by role: leader, coalesced or bypass. Callers should not
+ * hold a transaction while they wait, or every coalesced caller still pins a connection.
+ */
+@Service
+public class SingleFlight {
+    private final Environment env;
+    private final MeterRegistry meters;
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(Environment env, MeterRegistry meters) {
+        this.env = env;
+        this.meters = meters;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T run(String flight, Object key, Supplier<T> call) {
+        Flight f = flights.computeIfAbsent(flight, this::flight);
+        if (!f.enabled()) {
+            f.bypass().increment();
+            return call.get();
+        }
+        Key k = new Key(flight, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(k, mine);
+        if (running != null) {
+            f.coalesced().increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                if (e.getCause() instanceof Error err) throw err;
+                throw e;
+            }
+        }
+        f.leader().increment();
+        try {
+            T value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(k, mine);
+        }
+    }
+
+    /** Detaches the running computation for this key (if any) so that later callers do not join it. */
+    public void forget(String flight, Object key) {
+        inFlight.remove(new Key(flight, key));
+    }
+
+    private Flight flight(String name) {
+        boolean byDefault = env.getProperty("app.singleflight.enabled", Boolean.class, true);
+        return new Flight(env.getProperty("app.singleflight." + name + ".enabled", Boolean.class, byDefault),
+                counter(name, "leader"), counter(name, "coalesced"), counter(name, "bypass"));
+    }
+
+    private Counter counter(String flight, String role) {
+        return meters.counter("singleflight.calls", "flight", flight, "role", role);
+    }
+
+    private record Key(String flight, Object key) {}
+    private record Flight(boolean enabled, Counter leader, Counter coalesced, Counter bypass) {}
+}
@@ -0,0 +1,210 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Normalized view of {@code FreelancerProfile.skillsCsv}: one sorted {@code long[]} of user ids per skill,
+ * so "Spring Boot AND Kotlin" is an intersection of primitive arrays and facet counts come from the skills of
+ * the matching users. Skills are lower-cased with whitespace collapsed; the first spelling seen is the label.
+ * Posting lists are copy-on-write and maintained from {@link FreelancerProfileChangedEvent}.
+ */
+@Service
+public class SkillIndex {
+    private static final Logger log = LoggerFactory.getLogger(SkillIndex.class);
+    private static final int LOAD_CHUNK = 2_000;
+    private static final long[] NONE = new long[0];
+    private static final int[] NO_SKILLS = new int[0];
+
+    private final FreelancerProfileRepository freelancerRepo;
+    private final ConcurrentHashMap<String, Integer> skillIds = new ConcurrentHashMap<>();
+    private volatile String[] labels = new String[256];
+    private int skillCount; // guarded by this
+    private final ConcurrentHashMap<Integer, long[]> usersBySkill = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, int[]> skillsByUser = new ConcurrentHashMap<>();
+    private volatile long version; // bumped after every change of the index
+    private volatile Everyone everyone; // empty-filter result, valid while its version is current
+
+    public SkillIndex(FreelancerProfileRepository freelancerRepo) {
+        this.freelancerRepo = freelancerRepo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long afterId = 0;
+        List<Object[]> chunk;
+        do {
+            chunk = freelancerRepo.findSearchFieldsAfter(afterId, PageRequest.of(0, LOAD_CHUNK));
+            for (Object[] r : chunk) {
+                afterId = (Long) r[0];
+                index((Long) r[1], (String) r[4]);
+            }
+        } while (chunk.size() == LOAD_CHUNK);
+        log.info("Skill index: {} skills over {} profiles", skillIds.size(), skillsByUser.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(FreelancerProfileChangedEvent e) {
+        List<Object[]> rows = freelancerRepo.findSearchFieldsByUserId(e.userId());
+        index(e.userId(), rows.isEmpty() ? null : (String) rows.get(0)[4]);
+    }
+
+    /**
+     * Users having every one of {@code skills}, in user id order after {@code afterUserId}, plus per-skill counts
+     * over the whole matching set (the requested skills themselves excluded). An empty filter matches everyone;
+     * that result is computed once per index change and reused.
+     */
+    public SkillMatches match(Collection<String> skills, long afterUserId, int limit, int facetLimit) {
+        Set<Integer> wanted = new HashSet<>();
+        List<long[]> postings = new ArrayList<>();
+        for (String s : skills) {
+            Integer id = skillIds.get(normalize(s));
+            if (id == null) return new SkillMatches(List.of(), 0, List.of(), false);
+            if (wanted.add(id)) postings.add(usersBySkill.getOrDefault(id, NONE));
+        }
+        long[] users;
+        List<SkillFacet> facets;
+        if (postings.isEmpty()) {
+            Everyone all = everyone();
+            users = all.users();
+            facets = all.facets();
+        } else {
+            users = intersect(postings);
+            facets = facets(users, wanted);
+        }
+
+        limit = Math.max(1, limit);
+        int from = Arrays.binarySearch(users, afterUserId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        int to = Math.min(users.length, from + limit);
+        List<Long> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) page.add(users[i]);
+        return new SkillMatches(page, users.length, facets.subList(0, Math.min(facetLimit, facets.size())), to < users.length);
+    }
+
+    private List<SkillFacet> facets(long[] users, Set<Integer> wanted) {
+        String[] names = labels;
+        int[] counts = new int[names.length];
+        for (long u : users) {
+            for (int s : skillsByUser.getOrDefault(u, NO_SKILLS)) {
+                if (s < counts.length) counts[s]++;
+            }
+        }
+        List<SkillFacet> facets = new ArrayList<>();
+        for (int s = 0; s < counts.length; s++) {
+            if (counts[s] > 0 && !wanted.contains(s)) facets.add(new SkillFacet(names[s], counts[s]));
+        }
+        facets.sort(Comparator.comparingInt(SkillFacet::count).reversed().thenComparing(SkillFacet::skill));
+        return facets;
+    }
+
+    private Everyone everyone() {
+        long v = version; // read before the scan: a change during it bumps the version and voids this snapshot
+        Everyone cached = everyone;
+        if (cached != null && cached.version() == v) return cached;
+        long[] users = skillsByUser.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Everyone fresh = new Everyone(v, users, List.copyOf(facets(users, Set.of())));
+        everyone = fresh;
+        return fresh;
+    }
+
+    public static String normalize(String skill) {
+        return skill == null ? "" : skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized void index(long userId, String csv) {
+        int[] before = skillsByUser.getOrDefault(userId, NO_SKILLS);
+        int[] after = csv == null ? NO_SKILLS : labelled(csv).stream().mapToInt(this::skillId).sorted().distinct().toArray();
+        for (int s : before) {
+            if (Arrays.binarySearch(after, s) < 0) usersBySkill.computeIfPresent(s, (id, users) -> remove(users, userId));
+        }
+        for (int s : after) {
+            if (Arrays.binarySearch(before, s) < 0) usersBySkill.compute(s, (id, users) -> insert(users, userId));
+        }
+        if (after.length == 0) skillsByUser.remove(userId);
+        else skillsByUser.put(userId, after);
+        version++; // only written under the index lock
+    }
+
+    // trimmed original spellings, used as labels for skills seen for the first time
+    private static List<String> labelled(String csv) {
+        List<String> out = new ArrayList<>();
+        for (String s : csv.split(",")) {
+            String t = s.trim().replaceAll("\\s+", " ");
+            if (!t.isEmpty()) out.add(t);
+        }
+        return out;
+    }
+
+    // called under the index lock
+    private int skillId(String label) {
+        String key = normalize(label);
+        Integer existing = skillIds.get(key);
+        if (existing != null) return existing;
+        int id = skillCount++;
+        if (id == labels.length) labels = Arrays.copyOf(labels, id * 2);
+        labels[id] = label; // written before the id is published through skillIds/usersBySkill
+        skillIds.put(key, id);
+        return id;
+    }
+
+    /** Intersection of sorted id arrays, walking the shortest and binary-searching the rest. */
+    static long[] intersect(List<long[]> postings) {
+        postings.sort(Comparator.comparingInt(a -> a.length));
+        long[] smallest = postings.get(0);
+        long[] out = new long[smallest.length];
+        int n = 0;
+        int[] from = new int[postings.size()];
+        candidates:
+        for (long id : smallest) {
+            for (int p = 1; p < postings.size(); p++) {
+                long[] other = postings.get(p);
+                int at = Arrays.binarySearch(other, from[p], other.length, id);
+                if (at < 0) {
+                    from[p] = -at - 1;
+                    continue candidates;
+                }
+                from[p] = at + 1;
+            }
+            out[n++] = id;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) return new long[]{id};
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) return ids;
+        at = -at - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int at = Arrays.binarySearch(ids, id);
+        if (at < 0) return ids;
+        if (ids.length == 1) return null;
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, ids.length - at - 1);
+        return next;
+    }
+
+    private record Everyone(long version, long[] users, List<SkillFacet> facets) {}
+
+    public record SkillFacet(String skill, int count) {}
+    public record SkillMatches(List<Long> userIds, int total, List<SkillFacet> facets, boolean hasNext) {}
+}
@@ -1,86 +1,178 @@
 package com.gigmework.backend.service;
 
-import com.gigmework.backend.domain.FreelancerProfile;
-import com.gigmework.backend.domain.SocialFollow;
-import com.gigmework.backend.domain.UserAccount;
+import com.gigmework.backend.event.FollowChangedEvent;
+import com.gigmework.backend.event.PostCreatedEvent;
+import com.gigmework.backend.repo.CreatorCard;
 import com.gigmework.backend.repo.FreelancerProfileRepository;
-import com.gigmework.backend.repo.PostRepository;
 import com.gigmework.backend.repo.SocialFollowRepository;
 import com.gigmework.backend.repo.UserAccountRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class SocialService {
+    static final String COUNTS_FLIGHT = "socialCounts";
+
     private final FreelancerProfileRepository freelancerRepo;
     private final SocialFollowRepository followRepo;
     private final UserAccountRepository userRepo;
-    private final PostRepository postRepo;
+    private final TimelineService timelineService;
+    private final FollowGraph followGraph;
+    private final CreatorCards creatorCards;
+    private final ExistenceFilters filters;
+    private final CreatorSearchCache searchCache;
+    private final FuzzyCreatorIndex fuzzyIndex;
+    private final SkillIndex skillIndex;
+    private final SingleFlight singleFlight;
+    private final ApplicationEventPublisher events;
 
     public SocialService(FreelancerProfileRepository freelancerRepo,
                          SocialFollowRepository followRepo,
                          UserAccountRepository userRepo,
-                         PostRepository postRepo) {
+                         TimelineService timelineService,
+                         FollowGraph followGraph,
+                         CreatorCards creatorCards,
+                         ExistenceFilters filters,
+                         CreatorSearchCache searchCache,
+                         FuzzyCreatorIndex fuzzyIndex,
+                         SkillIndex skillIndex,
+                         SingleFlight singleFlight,
+                         ApplicationEventPublisher events) {
         this.freelancerRepo = freelancerRepo;
         this.followRepo = followRepo;
         this.userRepo = userRepo;
-        this.postRepo = postRepo;
+        this.timelineService = timelineService;
+        this.followGraph = followGraph;
+        this.creatorCards = creatorCards;
+        this.filters = filters;
+        this.searchCache = searchCache;
+        this.fuzzyIndex = fuzzyIndex;
+        this.skillIndex = skillIndex;
+        this.singleFlight = singleFlight;
+        this.events = events;
     }
 
     public List<CreatorSuggestionDto> search(String q, Long viewerId, int limit) {
         String query = normalize(q);
         if (query.isEmpty()) return List.of();
-        List<FreelancerProfile> results = freelancerRepo.searchPrefix(query, PageRequest.of(0, Math.min(limit, 50)));
-        return mapWithFollow(results, viewerId);
+        List<CreatorCard> hits = searchCache.lookup(query);
+        return mapWithFollow(hits.subList(0, Math.min(hits.size(), clamp(limit, 50))), viewerId);
+    }
+
+    /** Typo-tolerant variant of {@link #search}: "fluter" finds Flutter developers. */
+    public List<CreatorSuggestionDto> fuzzySearch(String q, Long viewerId, int limit) {
+        String query = normalize(q);
+        if (query.isEmpty()) return List.of();
+        return mapWithFollow(cardsInOrder(fuzzyIndex.search(query, clamp(limit, 50))), viewerId);
+    }
+
+    /** Creators having all of {@code skills}, paged by user id, with skill facet counts for the whole match set. */
+    public SkillSearchDto searchBySkills(List<String> skills, Long viewerId, Long afterUserId, int limit) {
+        SkillIndex.SkillMatches m = skillIndex.match(skills, afterUserId == null ? Long.MIN_VALUE : afterUserId, clamp(limit, 50), 30);
+        return new SkillSearchDto(mapWithFollow(cardsInOrder(m.userIds()), viewerId), m.total(), m.facets(),
+                m.hasNext() ? m.userIds().get(m.userIds().size() - 1) : null);
     }
 
+    /** Friends-of-friends ranked by mutual follows, answered from the in-memory follow graph and creator cards. */
     public List<CreatorSuggestionDto> suggestions(Long viewerId, int limit) {
-        List<FreelancerProfile> list = freelancerRepo.suggestions(viewerId, PageRequest.of(0, Math.min(limit, 30)));
+        if (followGraph.isLoaded()) {
+            return followGraph.suggestions(viewerId, clamp(limit, 30), creatorCards::contains).stream()
+                    .map(s -> {
+                        CreatorCard c = creatorCards.get(s.userId());
+                        return c == null ? null : new CreatorSuggestionDto(c.userId(), c.name(),
+                                Optional.ofNullable(c.title()).orElse(""), c.avatarUrl(), false, s.followerCount());
+                    })
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+        // graph still loading at startup
+        List<CreatorCard> list = freelancerRepo.suggestions(viewerId, PageRequest.of(0, clamp(limit, 30)));
         return mapWithFollow(list, viewerId);
     }
 
-    private List<CreatorSuggestionDto> mapWithFollow(List<FreelancerProfile> profiles, Long viewerId){
-        if (profiles.isEmpty()) return List.of();
-        List<Long> ids = profiles.stream().map(p -> p.getUser().getId()).toList();
-        Set<Long> following = viewerId == null ? Set.of() : followRepo.findByFollowerIdAndTargetIdIn(viewerId, ids)
-                .stream().map(f -> f.getTarget().getId()).collect(Collectors.toSet());
-        // follower counts
-        Map<Long, Long> followerCounts = followRepo.countFollowersForTargets(ids).stream()
+    private List<CreatorCard> cardsInOrder(List<Long> userIds) {
+        if (userIds.isEmpty()) return List.of();
+        Map<Long, CreatorCard> byUser = freelancerRepo.findCardsByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(CreatorCard::userId, c -> c));
+        return userIds.stream().map(byUser::get).filter(Objects::nonNull).toList();
+    }
+
+    private List<CreatorSuggestionDto> mapWithFollow(List<CreatorCard> cards, Long viewerId){
+        if (cards.isEmpty()) return List.of();
+        List<Long> ids = cards.stream().map(CreatorCard::userId).toList();
+        Set<Long> following = viewerId == null ? Set.of() : new HashSet<>(followRepo.findFollowedTargetIds(viewerId, ids));
+        Map<Long, Long> followerCounts = userRepo.findFollowerCounts(ids).stream()
                 .collect(Collectors.toMap(r -> (Long) r[0], r -> (Long) r[1]));
-        return profiles.stream().map(p -> new CreatorSuggestionDto(
-                p.getUser().getId(),
-                p.getDisplayName(),
-                Optional.ofNullable(p.getProfessionalTitle()).orElse(""),
-                p.getImageUrl(),
-                following.contains(p.getUser().getId()),
-                followerCounts.getOrDefault(p.getUser().getId(), 0L)
+        return cards.stream().map(c -> new CreatorSuggestionDto(
+                c.userId(),
+                c.name(),
+                Optional.ofNullable(c.title()).orElse(""),
+                c.avatarUrl(),
+                following.contains(c.userId()),
+                followerCounts.getOrDefault(c.userId(), 0L)
         )).toList();
     }
 
     @Transactional
     public void follow(Long followerId, Long targetId) {
         if (Objects.equals(followerId, targetId)) return;
-        if (followRepo.existsByFollowerIdAndTargetId(followerId, targetId)) return;
-        UserAccount follower = userRepo.findById(followerId).orElseThrow();
-        UserAccount target = userRepo.findById(targetId).orElseThrow();
-        followRepo.save(new SocialFollow(follower, target));
+        if (filters.follows().exists(followerId, targetId, () -> followRepo.existsByFollowerIdAndTargetId(followerId, targetId))) return;
+        if (!userRepo.existsById(followerId) || !userRepo.existsById(targetId)) throw new NoSuchElementException("user not found");
+        filters.follows().add(followerId, targetId);
+        // a filter negative only covers this instance's writes: the insert itself decides whether the pair is new
+        if (followRepo.insertIfAbsent(followerId, targetId, Instant.now()) == 0) return;
+        userRepo.addFollowing(followerId, 1);
+        userRepo.addFollowers(targetId, 1);
+        timelineService.onFollow(followerId, targetId);
+        events.publishEvent(new FollowChangedEvent(followerId, targetId, true));
     }
 
     @Transactional
     public void unfollow(Long followerId, Long targetId) {
-        followRepo.deleteByFollowerIdAndTargetId(followerId, targetId);
+        if (followRepo.deleteByFollowerIdAndTargetId(followerId, targetId) > 0) {
+            userRepo.addFollowing(followerId, -1);
+            userRepo.addFollowers(targetId, -1);
+        }
+        timelineService.onUnfollow(followerId, targetId);
+        events.publishEvent(new FollowChangedEvent(followerId, targetId, false));
     }
 
+    // no transaction here: callers coalesced behind a running lookup must not pin a connection while they wait
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SocialCountsDto counts(Long userId) {
-        long posts = postRepo.countByAuthorId(userId);
-        long followers = followRepo.countByTargetId(userId);
-        long following = followRepo.countByFollowerId(userId);
-        return new SocialCountsDto(posts, followers, following);
+        return singleFlight.run(COUNTS_FLIGHT, userId, () -> {
+            // one primary-key lookup of the denormalized counters instead of three COUNT(*) scans
+            List<Object[]> rows = userRepo.findCounters(userId);
+            if (rows.isEmpty()) return new SocialCountsDto(0, 0, 0);
+            Object[] r = rows.get(0);
+            return new SocialCountsDto((Long) r[0], (Long) r[1], (Long) r[2]);
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onFollowChanged(FollowChangedEvent e) {
+        singleFlight.forget(COUNTS_FLIGHT, e.followerId());
+        singleFlight.forget(COUNTS_FLIGHT, e.targetId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPostCreated(PostCreatedEvent e) {
+        singleFlight.forget(COUNTS_FLIGHT, e.authorId());
+    }
+
+    private static int clamp(int limit, int max) {
+        return Math.max(1, Math.min(limit, max));
     }
 
     private String normalize(String s){
@@ -93,4 +185,5 @@ public class SocialService {
     // DTOs
     public record CreatorSuggestionDto(Long userId, String name, String title, String avatarUrl, boolean followedByMe, long followerCount){}
     public record SocialCountsDto(long posts, long followers, long following){}
+    public record SkillSearchDto(List<CreatorSuggestionDto> items, long total, List<SkillIndex.SkillFacet> facets, Long nextAfter){}
 }
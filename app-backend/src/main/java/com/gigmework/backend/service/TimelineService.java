@@ -0,0 +1,220 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.domain.Post;
+import com.gigmework.backend.repo.PostRepository;
+import com.gigmework.backend.repo.SocialFollowRepository;
+import com.gigmework.backend.repo.TimelineEntryRepository;
+import com.gigmework.backend.util.KeysetCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Materialized per-user home timelines (fan-out-on-write).
+ * <p>
+ * A new post is written to {@code home_timeline} for every follower of its author inside the posting
+ * transaction, and pushed into the in-memory timelines of followers that are currently cached once it commits.
+ * Authors with more than {@code app.timeline.fanout-limit} followers are not fanned out: their posts are pulled
+ * and merged at read time instead. In-memory timelines are bounded (per user and in number of users) and are
+ * rebuilt from the table on a miss.
+ */
+@Service
+public class TimelineService {
+    private static final Logger log = LoggerFactory.getLogger(TimelineService.class);
+    private static final int FOLLOW_BACKFILL = 20;
+    private static final Comparator<Position> NEWEST_FIRST =
+            Comparator.comparing(Position::createdAt).thenComparingLong(Position::postId).reversed();
+
+    private final TimelineEntryRepository timelineRepo;
+    private final SocialFollowRepository followRepo;
+    private final PostRepository postRepo;
+    private final int capacity;
+    private final int fanOutLimit;
+    private final Map<Long, Timeline> timelines;
+    private final Set<Long> highFanOutAuthors = ConcurrentHashMap.newKeySet();
+
+    public TimelineService(TimelineEntryRepository timelineRepo,
+                           SocialFollowRepository followRepo,
+                           PostRepository postRepo,
+                           @Value("${app.timeline.capacity:800}") int capacity,
+                           @Value("${app.timeline.cached-users:10000}") int cachedUsers,
+                           @Value("${app.timeline.fanout-limit:5000}") int fanOutLimit) {
+        this.timelineRepo = timelineRepo;
+        this.followRepo = followRepo;
+        this.postRepo = postRepo;
+        this.capacity = capacity;
+        this.fanOutLimit = fanOutLimit;
+        this.timelines = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Timeline> eldest) { return size() > cachedUsers; }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadHighFanOutAuthors() {
+        highFanOutAuthors.addAll(followRepo.findTargetsWithMoreFollowersThan(fanOutLimit));
+        log.info("Timeline fan-out: {} authors served pull-on-read", highFanOutAuthors.size());
+    }
+
+    /** Delivers a freshly created post; must run inside the transaction that created it. */
+    @Transactional
+    public void fanOut(Post post) {
+        Long authorId = post.getAuthor().getId();
+        List<Long> recipients = new ArrayList<>();
+        if (!highFanOutAuthors.contains(authorId)) {
+            List<Long> followers = followRepo.findFollowerIds(authorId, PageRequest.of(0, fanOutLimit + 1));
+            if (followers.size() > fanOutLimit) {
+                // Too many followers to write to; readers pull this author's posts instead (sticky until restart)
+                highFanOutAuthors.add(authorId);
+            } else {
+                timelineRepo.fanOut(authorId, post.getId(), post.getCreatedAt());
+                recipients.addAll(followers);
+            }
+        }
+        timelineRepo.deliver(authorId, post.getId(), post.getCreatedAt()); // authors see their own posts
+        recipients.add(authorId);
+        long postId = post.getId();
+        long micros = toMicros(post.getCreatedAt());
+        afterCommit(() -> recipients.forEach(userId -> {
+            Timeline t = timelines.get(userId);
+            if (t != null) t.add(postId, micros);
+        }));
+    }
+
+    @Transactional
+    public void onFollow(Long followerId, Long targetId) {
+        if (!highFanOutAuthors.contains(targetId)) {
+            timelineRepo.backfill(followerId, targetId, FOLLOW_BACKFILL);
+        }
+        afterCommit(() -> timelines.remove(followerId));
+    }
+
+    @Transactional
+    public void onUnfollow(Long followerId, Long targetId) {
+        timelineRepo.removeAuthor(followerId, targetId);
+        afterCommit(() -> timelines.remove(followerId));
+    }
+
+    /** Post ids of the user's home timeline older than {@code before} (newest first when null). */
+    @Transactional(readOnly = true)
+    public Slice<Long> page(Long userId, KeysetCursor before, int size) {
+        int want = size + 1;
+        Timeline timeline = timelineFor(userId);
+        List<Position> merged = new ArrayList<>(timeline.before(before, want));
+        if (merged.size() < want && timeline.isTruncated()) {
+            // Scrolled past the in-memory window: continue from the table
+            Position last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            KeysetCursor from = last == null ? before : new KeysetCursor(last.createdAt(), last.postId());
+            PageRequest rest = PageRequest.of(0, want - merged.size());
+            merged.addAll(positions(from == null
+                    ? timelineRepo.findRecent(userId, rest)
+                    : timelineRepo.findRecentBefore(userId, from.createdAt(), from.id(), rest)));
+        }
+        if (!highFanOutAuthors.isEmpty()) {
+            List<Long> pulled = followRepo.findFollowedTargetIds(userId, List.copyOf(highFanOutAuthors));
+            if (!pulled.isEmpty()) {
+                PageRequest limit = PageRequest.of(0, want);
+                merged.addAll(positions(before == null
+                        ? postRepo.findRecentByAuthors(pulled, limit)
+                        : postRepo.findRecentByAuthorsBefore(pulled, before.createdAt(), before.id(), limit)));
+            }
+        }
+        List<Long> ids = merged.stream().sorted(NEWEST_FIRST).map(Position::postId).distinct().limit(want).toList();
+        boolean hasNext = ids.size() > size;
+        return new SliceImpl<>(hasNext ? ids.subList(0, size) : ids, PageRequest.of(0, size), hasNext);
+    }
+
+    private Timeline timelineFor(Long userId) {
+        Timeline t = timelines.get(userId);
+        if (t != null) return t;
+        List<Object[]> rows = timelineRepo.findRecent(userId, PageRequest.of(0, capacity));
+        Timeline loaded = new Timeline(capacity, positions(rows), rows.size() == capacity);
+        Timeline raced = timelines.putIfAbsent(userId, loaded);
+        return raced != null ? raced : loaded;
+    }
+
+    private static List<Position> positions(List<Object[]> rows) {
+        return rows.stream().map(r -> new Position((Long) r[0], (Instant) r[1])).toList();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { action.run(); }
+        });
+    }
+
+    private static long toMicros(Instant instant) { return ChronoUnit.MICROS.between(Instant.EPOCH, instant); }
+    private static Instant fromMicros(long micros) { return Instant.EPOCH.plus(micros, ChronoUnit.MICROS); }
+
+    record Position(long postId, Instant createdAt) {}
+
+    /** Newest-first bounded list of (createdAt, postId) kept in primitive arrays. */
+    static final class Timeline {
+        private final long[] postIds;
+        private final long[] createdMicros;
+        private int size;
+        private boolean truncated; // older entries exist in the table but not here
+
+        Timeline(int capacity, List<Position> newestFirst, boolean truncated) {
+            this.postIds = new long[capacity];
+            this.createdMicros = new long[capacity];
+            for (Position p : newestFirst) {
+                if (size == capacity) break;
+                postIds[size] = p.postId();
+                createdMicros[size++] = toMicros(p.createdAt());
+            }
+            this.truncated = truncated;
+        }
+
+        synchronized void add(long postId, long micros) {
+            int i = 0;
+            while (i < size && newer(createdMicros[i], postIds[i], micros, postId)) i++;
+            if (i < size && postIds[i] == postId) return;
+            if (size == postIds.length) {
+                if (i == size) return; // older than everything we keep
+                size--;
+                truncated = true;
+            }
+            System.arraycopy(postIds, i, postIds, i + 1, size - i);
+            System.arraycopy(createdMicros, i, createdMicros, i + 1, size - i);
+            postIds[i] = postId;
+            createdMicros[i] = micros;
+            size++;
+        }
+
+        synchronized List<Position> before(KeysetCursor cursor, int limit) {
+            List<Position> out = new ArrayList<>(Math.min(limit, size));
+            long cursorMicros = cursor == null ? 0 : toMicros(cursor.createdAt());
+            for (int i = 0; i < size && out.size() < limit; i++) {
+                if (cursor != null && !newer(cursorMicros, cursor.id(), createdMicros[i], postIds[i])) continue;
+                out.add(new Position(postIds[i], fromMicros(createdMicros[i])));
+            }
+            return out;
+        }
+
+        synchronized boolean isTruncated() { return truncated; }
+
+        private static boolean newer(long aMicros, long aId, long bMicros, long bId) {
+            return aMicros > bMicros || (aMicros == bMicros && aId > bId);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.event.PostCreatedEvent;
+import com.gigmework.backend.event.PostLikesSettledEvent;
+import com.gigmework.backend.repo.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory trending ranking: score = (likes + 1) * exp(-lambda * age), where age is measured from the
+ * post's createdAt and lambda comes from {@code app.trending.half-life-hours}. The +1 lets a brand new
+ * post rank before its first like.
+ * <p>
+ * Because every like of a post decays from the same instant, the ordering between two posts never changes
+ * with the passage of time alone. Each post is therefore indexed under the time-independent key
+ * ln(likes + 1) + lambda * createdAt in a skip list; a like re-inserts one entry and a top-K read walks K
+ * entries without touching the database. Like counts follow what the like buffer actually flushed, not the
+ * optimistic like/unlike stream.
+ */
+@Service
+public class TrendingService {
+    private static final Logger log = LoggerFactory.getLogger(TrendingService.class);
+    private static final Comparator<Ranked> BY_KEY_DESC =
+            Comparator.comparingDouble(Ranked::key).reversed().thenComparing(Comparator.comparingLong(Ranked::postId).reversed());
+
+    private final PostRepository postRepo;
+    private final double lambdaPerSecond;
+    private final Duration horizon;
+    private final int capacity;
+
+    private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(BY_KEY_DESC);
+    private final ConcurrentHashMap<Long, Ranked> byPost = new ConcurrentHashMap<>();
+
+    public TrendingService(PostRepository postRepo,
+                           @Value("${app.trending.half-life-hours:6}") double halfLifeHours,
+                           @Value("${app.trending.horizon-days:7}") int horizonDays,
+                           @Value("${app.trending.capacity:5000}") int capacity) {
+        this.postRepo = postRepo;
+        this.lambdaPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        this.horizon = Duration.ofDays(horizonDays);
+        this.capacity = capacity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Object[] r : postRepo.findLikeCountsSince(Instant.now().minus(horizon))) {
+            update((Long) r[0], (Instant) r[1], (Long) r[2]);
+        }
+        log.info("Trending: ranked {} posts from the last {}", byPost.size(), horizon);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent e) {
+        update(e.postId(), e.createdAt(), 0);
+    }
+
+    /** Follows what like flushes actually wrote, so only likes that reached post_likes move a post. */
+    @EventListener
+    public void onLikesSettled(PostLikesSettledEvent e) {
+        e.applied().forEach((postId, delta) ->
+                // absent when outside the horizon or already evicted
+                byPost.computeIfPresent(postId, (id, prev) -> replace(prev, rank(id, prev.createdAt(), Math.max(0, prev.likes() + delta)))));
+    }
+
+    /** Top posts by current decayed score, best first. */
+    public List<Trending> top(int limit) {
+        List<Trending> out = new ArrayList<>(limit);
+        double nowTerm = lambdaPerSecond * Instant.now().getEpochSecond();
+        for (Iterator<Ranked> it = ranking.iterator(); it.hasNext() && out.size() < limit; ) {
+            Ranked r = it.next();
+            out.add(new Trending(r.postId(), r.likes(), Math.exp(r.key() - nowTerm)));
+        }
+        return out;
+    }
+
+    private void update(long postId, Instant createdAt, long likes) {
+        byPost.compute(postId, (id, prev) -> replace(prev, rank(id, createdAt, likes)));
+        while (byPost.size() > capacity) {
+            Ranked last = ranking.pollLast();
+            if (last == null) break;
+            byPost.remove(last.postId(), last);
+        }
+    }
+
+    // only called inside byPost.compute*, so updates of one post are serialized by the map bin lock
+    private Ranked replace(Ranked prev, Ranked next) {
+        if (prev != null) ranking.remove(prev);
+        ranking.add(next);
+        return next;
+    }
+
+    private Ranked rank(long postId, Instant createdAt, long likes) {
+        return new Ranked(postId, createdAt, likes, Math.log1p(likes) + lambdaPerSecond * createdAt.getEpochSecond());
+    }
+
+    record Ranked(long postId, Instant createdAt, long likes, double key) {}
+    public record Trending(long postId, long likes, double score) {}
+}
@@ -0,0 +1,24 @@
+package com.gigmework.backend.util;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Position in a (createdAt DESC, id DESC) ordered listing, exchanged with clients as
+ * "<ISO-8601 createdAt>,<id>". The next page holds rows strictly older than the cursor.
+ */
+public record KeysetCursor(Instant createdAt, long id) {
+
+    public static KeysetCursor parse(String token) {
+        if (token == null || token.isBlank()) return null;
+        int comma = token.lastIndexOf(',');
+        if (comma <= 0) throw new IllegalArgumentException("invalid cursor: " + token);
+        try {
+            return new KeysetCursor(Instant.parse(token.substring(0, comma).trim()), Long.parseLong(token.substring(comma + 1).trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor: " + token);
+        }
+    }
+
+    public String token() { return createdAt + "," + id; }
+}
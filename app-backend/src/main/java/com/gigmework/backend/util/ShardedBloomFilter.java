@@ -0,0 +1,62 @@
+package com.gigmework.backend.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over (long, long) pairs, split into independent shards so no single bit array grows
+ * past a few MB and concurrent inserts spread over separate cache lines. Entries cannot be removed; callers
+ * rebuild a fresh filter from the source table to drop deleted pairs.
+ */
+public final class ShardedBloomFilter {
+    private static final int SHARDS = 16;
+
+    private final AtomicLongArray[] shards = new AtomicLongArray[SHARDS];
+    private final long bitsPerShard;
+    private final int hashes;
+
+    /** Sized for {@code expectedEntries} at roughly {@code falsePositiveRate}. */
+    public ShardedBloomFilter(long expectedEntries, double falsePositiveRate) {
+        long n = Math.max(expectedEntries, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long words = Math.max(1, (bits / SHARDS + 63) / 64);
+        this.bitsPerShard = words * 64;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        for (int i = 0; i < SHARDS; i++) shards[i] = new AtomicLongArray((int) words);
+    }
+
+    public void put(long a, long b) {
+        long h1 = mix(a * 0x9E3779B97F4A7C15L ^ b);
+        long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        AtomicLongArray shard = shards[(int) (h2 >>> 60)];
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerShard);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = shard.get(word);
+            while ((current & mask) == 0 && !shard.compareAndSet(word, current, current | mask)) {
+                current = shard.get(word);
+            }
+        }
+    }
+
+    /** False means the pair was definitely never added; true means it probably was. */
+    public boolean mightContain(long a, long b) {
+        long h1 = mix(a * 0x9E3779B97F4A7C15L ^ b);
+        long h2 = mix(h1 ^ 0xC2B2AE3D27D4EB4FL) | 1;
+        AtomicLongArray shard = shards[(int) (h2 >>> 60)];
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerShard);
+            if ((shard.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    public long sizeInBytes() { return bitsPerShard / 8 * SHARDS; }
+
+    // murmur3 fmix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB93FE53A6BE9L;
+        return z ^ (z >>> 33);
+    }
+}
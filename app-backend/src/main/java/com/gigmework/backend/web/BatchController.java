@@ -0,0 +1,217 @@
+package com.gigmework.backend.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Composite endpoint for app startup: the client sends the GETs it would otherwise make one by one (profile,
+ * social counts, home, contact links, first feed page) and gets all answers in one round-trip.
+ * <p>
+ * Sub-requests are matched against a fixed table of read-only routes of the profile, social, home, contact-link
+ * and feed controllers and invoked on those controller beans concurrently, on a bounded pool of
+ * {@code app.batch.threads} threads. Each one reports its own status and body; a failing or slow sub-request
+ * (past {@code app.batch.timeout-ms}, counted from arrival of the batch) gets an error status without affecting
+ * the others, and one the saturated pool cannot take is answered 503 rather than run on the request thread.
+ */
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+    private static final Logger log = LoggerFactory.getLogger(BatchController.class);
+
+    private final MeterRegistry meters;
+    private final int maxRequests;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor pool;
+    private final List<Route> routes = new ArrayList<>();
+
+    public BatchController(FreelancerProfileController profiles,
+                           SocialController social,
+                           FreelancerHomeController home,
+                           ContactLinkController contactLinks,
+                           FeedController feed,
+                           MeterRegistry meters,
+                           @Value("${app.batch.threads:8}") int threads,
+                           @Value("${app.batch.max-requests:20}") int maxRequests,
+                           @Value("${app.batch.timeout-ms:5000}") long timeoutMs) {
+        this.meters = meters;
+        this.maxRequests = maxRequests;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger n = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(threads * 8), r -> {
+            Thread t = new Thread(r, "batch-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+
+        route("/api/freelancers/browse", (v, q) -> profiles.browse(optInt(q, "minRate"), optInt(q, "maxRate"),
+                Optional.ofNullable(q.getFirst("available")).map(Boolean::valueOf).orElse(null), q.getFirst("currency"),
+                q.getFirst("location"), q.getOrDefault("sort", List.of("recent")).get(0), intOr(q, "offset", 0), intOr(q, "limit", 20)));
+        route("/api/freelancers/{userId}/profile", (v, q) -> profiles.get(Long.valueOf(v.get("userId"))));
+        route("/api/freelancers/{userId}/home", (v, q) -> home.home(Long.valueOf(v.get("userId"))));
+
+        route("/api/social/counts", (v, q) -> social.counts(reqLong(q, "userId")));
+        route("/api/social/suggestions", (v, q) -> social.suggestions(reqLong(q, "userId"), intOr(q, "limit", 12)));
+        route("/api/social/search", (v, q) -> social.search(req(q, "q"), optLong(q, "viewerId"), intOr(q, "limit", 20),
+                q.getOrDefault("mode", List.of("prefix")).get(0)));
+        route("/api/social/skills", (v, q) -> social.searchBySkills(q.get("skill"), optLong(q, "viewerId"), optLong(q, "after"),
+                intOr(q, "limit", 20)));
+
+        route("/api/contact-links", (v, q) -> contactLinks.getContactLinks(reqLong(q, "userId")));
+        route("/api/contact-links/public", (v, q) -> contactLinks.getContactLinksPublic(reqLong(q, "userId")));
+
+        route("/api/feed/posts", (v, q) -> q.containsKey("before")
+                ? feed.listBefore(q.getFirst("before"), intOr(q, "size", 10), optLong(q, "viewerId"))
+                : feed.list(intOr(q, "page", 0), intOr(q, "size", 10), optLong(q, "viewerId")));
+        route("/api/feed/home", (v, q) -> feed.home(reqLong(q, "userId"), q.getFirst("before"), intOr(q, "size", 10)));
+        route("/api/feed/users/{id}/posts", (v, q) -> feed.listByAuthor(Long.valueOf(v.get("id")), q.getFirst("before"),
+                intOr(q, "size", 10), optLong(q, "viewerId")));
+        route("/api/feed/trending", (v, q) -> feed.trending(intOr(q, "limit", 20), optLong(q, "viewerId")));
+    }
+
+    @PostMapping
+    public ResponseEntity<?> batch(@RequestBody BatchRequest body) {
+        List<SubRequest> requests = body == null ? null : body.requests();
+        if (requests == null || requests.isEmpty()) return ResponseEntity.badRequest().body(Map.of("error", "requests is empty"));
+        if (requests.size() > maxRequests) {
+            return ResponseEntity.badRequest().body(Map.of("error", "at most " + maxRequests + " requests per batch"));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<Future<SubResponse>> futures = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            SubRequest r = requests.get(i);
+            String id = id(r, i);
+            try {
+                futures.add(pool.submit(() -> execute(id, r)));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(SubResponse.error(id, 503, "server busy, retry")));
+            }
+        }
+        List<SubResponse> responses = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            String id = id(requests.get(i), i);
+            try {
+                responses.add(futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                futures.get(i).cancel(true);
+                responses.add(SubResponse.error(id, 504, "timed out"));
+            } catch (ExecutionException e) {
+                responses.add(SubResponse.error(id, 500, String.valueOf(e.getCause())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                responses.add(SubResponse.error(id, 503, "interrupted"));
+            }
+        }
+        return ResponseEntity.ok(new BatchResponse(responses));
+    }
+
+    @PreDestroy
+    public void shutdown() { pool.shutdownNow(); }
+
+    private static String id(SubRequest r, int index) {
+        return r == null || r.id() == null ? String.valueOf(index) : r.id();
+    }
+
+    private SubResponse execute(String id, SubRequest r) {
+        if (r == null || r.path() == null || r.path().isBlank()) return SubResponse.error(id, 400, "path is required");
+        if (r.method() != null && !"GET".equalsIgnoreCase(r.method())) {
+            return SubResponse.error(id, 405, "only GET sub-requests can be batched");
+        }
+        var uri = UriComponentsBuilder.fromUriString(r.path()).build();
+        PathContainer path = PathContainer.parsePath(uri.getPath() == null ? "" : uri.getPath());
+        for (Route route : routes) {
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match == null) continue;
+            SubResponse res;
+            try {
+                res = SubResponse.of(id, route.handler().apply(match.getUriVariables(), decode(uri.getQueryParams())));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                res = SubResponse.error(id, 400, e.getMessage());
+            } catch (NoSuchElementException e) {
+                res = SubResponse.error(id, 404, e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Batched {} failed: {}", r.path(), e.toString());
+                res = SubResponse.error(id, 500, e.getClass().getSimpleName());
+            }
+            meters.counter("batch.subrequests", "route", route.pattern().getPatternString(), "status", String.valueOf(res.status())).increment();
+            return res;
+        }
+        return SubResponse.error(id, 404, "no batchable route for " + uri.getPath());
+    }
+
+    private void route(String pattern, BiFunction<Map<String, String>, MultiValueMap<String, String>, ResponseEntity<?>> handler) {
+        routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), handler));
+    }
+
+    // form-style decoding, as the servlet container does for a direct GET: '+' is a space
+    private static MultiValueMap<String, String> decode(MultiValueMap<String, String> raw) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        raw.forEach((k, vs) -> vs.forEach(v -> params.add(URLDecoder.decode(k, StandardCharsets.UTF_8),
+                v == null ? "" : URLDecoder.decode(v, StandardCharsets.UTF_8))));
+        return params;
+    }
+
+    private static String req(MultiValueMap<String, String> q, String name) {
+        String v = q.getFirst(name);
+        if (v == null) throw new IllegalArgumentException("missing parameter " + name);
+        return v;
+    }
+
+    private static Long reqLong(MultiValueMap<String, String> q, String name) { return Long.valueOf(req(q, name)); }
+
+    private static Long optLong(MultiValueMap<String, String> q, String name) {
+        String v = q.getFirst(name);
+        return v == null || v.isEmpty() ? null : Long.valueOf(v);
+    }
+
+    private static Integer optInt(MultiValueMap<String, String> q, String name) {
+        String v = q.getFirst(name);
+        return v == null || v.isEmpty() ? null : Integer.valueOf(v);
+    }
+
+    private static int intOr(MultiValueMap<String, String> q, String name, int dflt) {
+        Integer v = optInt(q, name);
+        return v == null ? dflt : v;
+    }
+
+    private record Route(PathPattern pattern, BiFunction<Map<String, String>, MultiValueMap<String, String>, ResponseEntity<?>> handler) {}
+
+    /** {@code path} is the URL path and query as the client would GET it, e.g. {@code /api/social/counts?userId=7}. */
+    public record SubRequest(String id, String method, String path) {}
+    public record BatchRequest(List<SubRequest> requests) {}
+    public record BatchResponse(List<SubResponse> responses) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record SubResponse(String id, int status, Object body, String error) {
+        static SubResponse of(String id, ResponseEntity<?> res) {
+            Object body = res.getBody();
+            // the home controller already serves serialized JSON; embed it as is
+            if (body instanceof byte[] json) body = new RawValue(new String(json, StandardCharsets.UTF_8));
+            return new SubResponse(id, res.getStatusCode().value(), body, null);
+        }
+
+        static SubResponse error(String id, int status, String message) {
+            return new SubResponse(id, status, null, message);
+        }
+    }
+}
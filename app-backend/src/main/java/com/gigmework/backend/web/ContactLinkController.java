@@ -2,6 +2,7 @@ package com.gigmework.backend.web;
 
 import com.gigmework.backend.models.ContactLink;
 import com.gigmework.backend.service.ContactLinkService;
+import com.gigmework.backend.service.ContactLinkService.ContactLinkDto;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,15 +17,15 @@ public class ContactLinkController {
     private ContactLinkService contactLinkService;
 
     @GetMapping
-    public ResponseEntity<List<ContactLink>> getContactLinks(@RequestParam("userId") Long userId) {
-        List<ContactLink> links = contactLinkService.getContactLinksByUserId(userId);
+    public ResponseEntity<List<ContactLinkDto>> getContactLinks(@RequestParam("userId") Long userId) {
+        List<ContactLinkDto> links = contactLinkService.getContactLinksByUserId(userId);
         return ResponseEntity.ok(links);
     }
 
        // Public, read-only endpoint for the shareable card
     @GetMapping("/public")
-    public ResponseEntity<List<ContactLink>> getContactLinksPublic(@RequestParam("userId") Long userId) {
-        List<ContactLink> links = contactLinkService.getContactLinksByUserId(userId);
+    public ResponseEntity<List<ContactLinkDto>> getContactLinksPublic(@RequestParam("userId") Long userId) {
+        List<ContactLinkDto> links = contactLinkService.getContactLinksByUserId(userId);
         return ResponseEntity.ok(links);
     }
 
@@ -2,13 +2,17 @@ package com.gigmework.backend.web;
 
 import com.gigmework.backend.domain.*;
 import com.gigmework.backend.service.PostService;
+import com.gigmework.backend.service.PostService.LikeStats;
 import com.gigmework.backend.service.PostService.MediaSpec;
+import com.gigmework.backend.util.KeysetCursor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,7 +28,7 @@ public class FeedController {
                 .map(m -> new MediaSpec(m.url(), m.mediaType(), m.width(), m.height(), m.durationSeconds(), m.thumbnailUrl()))
                 .toList();
         Post p = postService.createPost(req.authorId(), req.content(), specs);
-        return ResponseEntity.ok(toDto(p, req.authorId()));
+        return ResponseEntity.ok(toDto(p, LikeStats.NONE));
     }
 
     @GetMapping("/posts")
@@ -32,13 +36,69 @@ public class FeedController {
                                               @RequestParam(defaultValue = "10") int size,
                                               @RequestParam(required = false) Long viewerId) {
         Page<Post> pg = postService.list(page, size);
-        Page<PostDto> mapped = pg.map(p -> toDto(p, viewerId));
+        Map<Long, LikeStats> stats = postService.likeStats(pg.map(Post::getId).getContent(), viewerId);
+        Page<PostDto> mapped = pg.map(p -> toDto(p, stats.getOrDefault(p.getId(), LikeStats.NONE)));
         return ResponseEntity.ok(mapped);
     }
 
+    // Cursor mode: pass before= (empty for the first page), then the returned nextCursor
+    @GetMapping(value = "/posts", params = "before")
+    public ResponseEntity<FeedSlice> listBefore(@RequestParam String before,
+                                                @RequestParam(defaultValue = "10") int size,
+                                                @RequestParam(required = false) Long viewerId) {
+        KeysetCursor cursor;
+        try {
+            cursor = KeysetCursor.parse(before);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(toSlice(postService.listBefore(cursor, Math.max(1, Math.min(size, 50))), viewerId));
+    }
+
+    // Home timeline of the given user: people they follow plus their own posts, same cursor contract as above
+    @GetMapping("/home")
+    public ResponseEntity<FeedSlice> home(@RequestParam Long userId,
+                                          @RequestParam(required = false) String before,
+                                          @RequestParam(defaultValue = "10") int size) {
+        KeysetCursor cursor;
+        try {
+            cursor = KeysetCursor.parse(before);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(toSlice(postService.home(userId, cursor, Math.max(1, Math.min(size, 50))), userId));
+    }
+
+    // Profile timeline: one author's posts, same cursor contract as the global feed
+    @GetMapping("/users/{id}/posts")
+    public ResponseEntity<FeedSlice> listByAuthor(@PathVariable Long id,
+                                                  @RequestParam(required = false) String before,
+                                                  @RequestParam(defaultValue = "10") int size,
+                                                  @RequestParam(required = false) Long viewerId) {
+        KeysetCursor cursor;
+        try {
+            cursor = KeysetCursor.parse(before);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(toSlice(postService.listByAuthor(id, cursor, Math.max(1, Math.min(size, 50))), viewerId));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostDto>> trending(@RequestParam(defaultValue = "20") int limit,
+                                                  @RequestParam(required = false) Long viewerId) {
+        List<Post> posts = postService.trending(Math.max(1, Math.min(limit, 100)));
+        Map<Long, LikeStats> stats = postService.likeStats(posts.stream().map(Post::getId).toList(), viewerId);
+        return ResponseEntity.ok(posts.stream().map(p -> toDto(p, stats.getOrDefault(p.getId(), LikeStats.NONE))).toList());
+    }
+
     @PostMapping("/posts/{id}/like")
     public ResponseEntity<?> like(@PathVariable Long id, @RequestParam Long userId) {
-        postService.like(id, userId);
+        try {
+            postService.like(id, userId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
         return ResponseEntity.ok().build();
     }
 
@@ -48,18 +108,29 @@ public class FeedController {
         return ResponseEntity.ok().build();
     }
 
-    private PostDto toDto(Post p, Long viewerId) {
+    private FeedSlice toSlice(Slice<Post> slice, Long viewerId) {
+        List<Post> posts = slice.getContent();
+        Map<Long, LikeStats> stats = postService.likeStats(posts.stream().map(Post::getId).toList(), viewerId);
+        List<PostDto> items = posts.stream().map(p -> toDto(p, stats.getOrDefault(p.getId(), LikeStats.NONE))).toList();
+        String next = null;
+        if (slice.hasNext() && !posts.isEmpty()) {
+            Post last = posts.get(posts.size() - 1);
+            next = new KeysetCursor(last.getCreatedAt(), last.getId()).token();
+        }
+        return new FeedSlice(items, next, slice.hasNext());
+    }
+
+    private PostDto toDto(Post p, LikeStats likes) {
         List<PostMediaDto> media = p.getMedia().stream().map(m -> new PostMediaDto(
                 m.getId(), m.getUrl(), m.getMediaType(), m.getWidth(), m.getHeight(), m.getDurationSeconds(), m.getThumbnailUrl(), m.getOrderIndex()
         )).collect(Collectors.toList());
-        long likeCount = postService.likeCount(p.getId());
-        boolean likedByMe = viewerId != null && postService.likedBy(p.getId(), viewerId);
-        return new PostDto(p.getId(), p.getAuthor().getId(), p.getAuthor().getEmail(), p.getContent(), p.getCreatedAt(), likeCount, 0, likedByMe, media);
+        return new PostDto(p.getId(), p.getAuthor().getId(), p.getAuthor().getEmail(), p.getContent(), p.getCreatedAt(), likes.count(), 0, likes.likedByMe(), media);
     }
 
     public record CreatePostRequest(Long authorId, String content, List<CreateMediaItem> media) {}
     public record CreateMediaItem(String url, MediaType mediaType, Integer width, Integer height, Integer durationSeconds, String thumbnailUrl) {}
 
+    public record FeedSlice(List<PostDto> items, String nextCursor, boolean hasNext) {}
     public record PostDto(Long id, Long authorId, String authorName, String content, Instant createdAt, long likeCount, long commentCount, boolean likedByMe, List<PostMediaDto> media) {}
     public record PostMediaDto(Long id, String url, MediaType mediaType, Integer width, Integer height, Integer durationSeconds, String thumbnailUrl, int orderIndex) {}
 }
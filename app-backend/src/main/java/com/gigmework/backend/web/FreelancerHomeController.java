@@ -1,23 +1,30 @@
 package com.gigmework.backend.web;
 
-import com.gigmework.backend.service.FreelancerHomeService;
+import com.gigmework.backend.service.HomeCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/freelancers")
 public class FreelancerHomeController {
-    private final FreelancerHomeService homeService;
+    private final HomeCache homeCache;
 
-    public FreelancerHomeController(FreelancerHomeService homeService) { this.homeService = homeService; }
+    public FreelancerHomeController(HomeCache homeCache) { this.homeCache = homeCache; }
 
     @GetMapping("/{userId}/home")
     public ResponseEntity<?> home(@PathVariable Long userId) {
         try {
-            return ResponseEntity.ok(homeService.getHome(userId));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(homeCache.get(userId));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (RejectedExecutionException e) {
+            // the lookup pool is saturated; fail fast rather than queue behind it
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "server busy, retry"));
         }
     }
 }
-
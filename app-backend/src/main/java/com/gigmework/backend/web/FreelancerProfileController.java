@@ -1,23 +1,52 @@
 package com.gigmework.backend.web;
 
 import com.gigmework.backend.domain.FreelancerProfile;
+import com.gigmework.backend.service.FreelancerDirectory;
+import com.gigmework.backend.service.FreelancerDirectory.BrowseOrder;
 import com.gigmework.backend.service.FreelancerProfileService;
+import com.gigmework.backend.service.FreelancerProfileService.FreelancerProfileDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/freelancers")
 public class FreelancerProfileController {
     private final FreelancerProfileService service;
+    private final FreelancerDirectory directory;
 
-    public FreelancerProfileController(FreelancerProfileService service) { this.service = service; }
+    public FreelancerProfileController(FreelancerProfileService service, FreelancerDirectory directory) {
+        this.service = service;
+        this.directory = directory;
+    }
+
+    /** Filter/sort browsing served from the in-memory directory. sort: recent (default), rate, -rate. */
+    @GetMapping("/browse")
+    public ResponseEntity<?> browse(@RequestParam(value = "minRate", required = false) Integer minRateCents,
+                                    @RequestParam(value = "maxRate", required = false) Integer maxRateCents,
+                                    @RequestParam(value = "available", required = false) Boolean available,
+                                    @RequestParam(value = "currency", required = false) String currency,
+                                    @RequestParam(value = "location", required = false) String location,
+                                    @RequestParam(value = "sort", defaultValue = "recent") String sort,
+                                    @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                    @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        BrowseOrder order = switch (sort.toLowerCase(Locale.ROOT)) {
+            case "recent" -> BrowseOrder.RECENT;
+            case "rate" -> BrowseOrder.RATE_ASC;
+            case "-rate" -> BrowseOrder.RATE_DESC;
+            default -> null;
+        };
+        if (order == null) return ResponseEntity.badRequest().body(Map.of("error", "sort must be recent, rate or -rate"));
+        return ResponseEntity.ok(directory.browse(minRateCents, maxRateCents, available, currency, location, order,
+                Math.max(0, Math.min(offset, 1000)), Math.max(1, Math.min(limit, 50))));
+    }
 
     @GetMapping("/{userId}/profile")
     public ResponseEntity<?> get(@PathVariable Long userId) {
         return service.getByUser(userId)
-                .<ResponseEntity<?>>map(fp -> ResponseEntity.ok(FreelancerProfileDto.from(fp)))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -67,48 +96,4 @@ public class FreelancerProfileController {
             String extraJson,
             String socialLinksJson
     ) {}
-
-    public record FreelancerProfileDto(
-            Long id,
-            Long userId,
-            String displayName,
-            String professionalTitle,
-            String bio,
-            String skillsCsv,
-            String imageUrl,
-            String location,
-            String contactEmail,
-            String phone,
-            String website,
-            String linkedin,
-            String github,
-            Integer hourlyRateCents,
-            String currency,
-            Boolean available,
-            String extraJson,
-            String socialLinksJson
-    ) {
-        static FreelancerProfileDto from(FreelancerProfile fp) {
-            return new FreelancerProfileDto(
-                fp.getId(),
-                fp.getUser().getId(),
-                fp.getDisplayName(),
-                fp.getProfessionalTitle(),
-                fp.getBio(),
-                fp.getSkillsCsv(),
-                fp.getImageUrl(),
-                fp.getLocation(),
-                fp.getContactEmail(),
-                fp.getPhone(),
-                fp.getWebsite(),
-                fp.getLinkedin(),
-                fp.getGithub(),
-                fp.getHourlyRateCents(),
-                fp.getCurrency(),
-                fp.getAvailable(),
-                fp.getExtraJson(),
-                fp.getSocialLinksJson()
-            );
-        }
-    }
 }
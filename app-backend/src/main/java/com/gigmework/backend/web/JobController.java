@@ -1,12 +1,18 @@
 package com.gigmework.backend.web;
 
 import com.gigmework.backend.domain.Job;
+import com.gigmework.backend.domain.JobStatus;
+import com.gigmework.backend.repo.JobRow;
 import com.gigmework.backend.service.JobService;
+import com.gigmework.backend.util.KeysetCursor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,6 +30,26 @@ public class JobController {
         return jobService.listJobs().stream().map(JobDto::from).collect(Collectors.toList());
     }
 
+    // Cursor mode: pass before= (empty for the first page), then the returned nextCursor.
+    // status may repeat (status=OPEN&status=ASSIGNED); budgets are in cents and inclusive.
+    @GetMapping(params = "before")
+    public ResponseEntity<JobSlice> listBefore(@RequestParam String before,
+                                               @RequestParam(required = false) List<String> status,
+                                               @RequestParam(defaultValue = "0") long minBudget,
+                                               @RequestParam(defaultValue = "" + Long.MAX_VALUE) long maxBudget,
+                                               @RequestParam(defaultValue = "20") int size) {
+        try {
+            EnumSet<JobStatus> statuses = EnumSet.allOf(JobStatus.class);
+            if (status != null && !status.isEmpty()) {
+                statuses = EnumSet.noneOf(JobStatus.class);
+                for (String s : status) statuses.add(JobStatus.valueOf(s.trim().toUpperCase(Locale.ROOT)));
+            }
+            return ResponseEntity.ok(page(statuses, minBudget, maxBudget, before, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<JobDto> create(@RequestBody JobCreateRequest req) {
         if (req == null || req.title() == null || req.title().isBlank()) {
@@ -44,6 +70,18 @@ public class JobController {
         return jobService.listOpenJobs().stream().map(JobDto::from).collect(Collectors.toList());
     }
 
+    @GetMapping(value = "/open", params = "before")
+    public ResponseEntity<JobSlice> listOpenBefore(@RequestParam String before,
+                                                   @RequestParam(defaultValue = "0") long minBudget,
+                                                   @RequestParam(defaultValue = "" + Long.MAX_VALUE) long maxBudget,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(page(EnumSet.of(JobStatus.OPEN), minBudget, maxBudget, before, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/{jobId}/apply")
     public ResponseEntity<JobDto> applyForJob(@PathVariable Long jobId, @RequestParam String freelancerEmail) {
         var freelancer = jobService.findUserByEmail(freelancerEmail);
@@ -58,6 +96,28 @@ public class JobController {
         }
     }
 
+    private JobSlice page(EnumSet<JobStatus> statuses, long minBudget, long maxBudget, String before, int size) {
+        Slice<JobRow> slice = jobService.pageJobs(statuses, minBudget, maxBudget, KeysetCursor.parse(before), Math.max(1, Math.min(size, 50)));
+        List<JobRow> rows = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            JobRow last = rows.get(rows.size() - 1);
+            next = new KeysetCursor(last.createdAt(), last.id()).token();
+        }
+        return new JobSlice(rows.stream().map(JobDto::from).toList(), next, slice.hasNext());
+    }
+
+    @PostMapping("/{jobId}/complete")
+    public ResponseEntity<JobDto> completeJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(JobDto.from(jobService.completeJob(jobId)));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
+    public record JobSlice(List<JobDto> items, String nextCursor, boolean hasNext) {}
+
     public record JobCreateRequest(String title, String description) {}
 
     public record JobDto(Long id, String title, String description, String clientOwnerEmail, String assignedFreelancerEmail, long budgetCents, String status) {
@@ -72,5 +132,9 @@ public class JobController {
                     j.getStatus().name()
             );
         }
+
+        public static JobDto from(JobRow r) {
+            return new JobDto(r.id(), r.title(), r.description(), r.clientOwnerEmail(), r.assignedFreelancerEmail(), r.budgetCents(), r.status().name());
+        }
     }
 }
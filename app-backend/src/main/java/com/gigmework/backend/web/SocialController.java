@@ -2,6 +2,7 @@ package com.gigmework.backend.web;
 
 import com.gigmework.backend.service.SocialService;
 import com.gigmework.backend.service.SocialService.CreatorSuggestionDto;
+import com.gigmework.backend.service.SocialService.SkillSearchDto;
 import com.gigmework.backend.service.SocialService.SocialCountsDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,10 +18,20 @@ public class SocialController {
     @GetMapping("/search")
     public ResponseEntity<List<CreatorSuggestionDto>> search(@RequestParam("q") String q,
                                                              @RequestParam(value = "viewerId", required = false) Long viewerId,
-                                                             @RequestParam(value = "limit", required = false, defaultValue = "20") int limit) {
+                                                             @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+                                                             @RequestParam(value = "mode", required = false, defaultValue = "prefix") String mode) {
+        if ("fuzzy".equalsIgnoreCase(mode)) return ResponseEntity.ok(socialService.fuzzySearch(q, viewerId, limit));
         return ResponseEntity.ok(socialService.search(q, viewerId, limit));
     }
 
+    @GetMapping("/skills")
+    public ResponseEntity<SkillSearchDto> searchBySkills(@RequestParam(value = "skill", required = false) List<String> skills,
+                                                         @RequestParam(value = "viewerId", required = false) Long viewerId,
+                                                         @RequestParam(value = "after", required = false) Long after,
+                                                         @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(socialService.searchBySkills(skills == null ? List.of() : skills, viewerId, after, limit));
+    }
+
     @GetMapping("/suggestions")
     public ResponseEntity<List<CreatorSuggestionDto>> suggestions(@RequestParam("userId") Long viewerId,
                                                                   @RequestParam(value = "limit", defaultValue = "12") int limit) {
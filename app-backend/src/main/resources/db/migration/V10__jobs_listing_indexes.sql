@@ -0,0 +1,5 @@
+-- Job board: keyset scans per status, newest first (budget range is filtered within the scan)
+CREATE INDEX IF NOT EXISTS idx_jobs_status_created_at ON jobs(status, created_at DESC, id DESC);
+-- Recent jobs of a freelancer (home dashboard) and owner lookups
+CREATE INDEX IF NOT EXISTS idx_jobs_freelancer_created_at ON jobs(freelancer_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_client ON jobs(client_id);
@@ -0,0 +1,2 @@
+-- Optimistic version for jobs; assignment itself is a conditional UPDATE that also bumps it
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
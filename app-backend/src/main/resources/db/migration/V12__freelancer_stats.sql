@@ -0,0 +1,19 @@
+-- Per-freelancer dashboard totals, maintained on job assignment/completion
+CREATE TABLE IF NOT EXISTS freelancer_stats (
+    freelancer_id BIGINT PRIMARY KEY REFERENCES users(id),
+    assigned_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    total_budget_cents BIGINT NOT NULL DEFAULT 0,
+    distinct_clients BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO freelancer_stats (freelancer_id, assigned_count, completed_count, total_budget_cents, distinct_clients)
+SELECT j.freelancer_id,
+       count(*),
+       count(*) FILTER (WHERE j.status = 'COMPLETED'),
+       coalesce(sum(j.budget_cents), 0),
+       count(DISTINCT j.client_id)
+FROM jobs j
+WHERE j.freelancer_id IS NOT NULL
+GROUP BY j.freelancer_id
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,8 @@
+-- Materialized home timelines (fan-out-on-write); in-memory timelines are rebuilt from here
+CREATE TABLE IF NOT EXISTS home_timeline (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    post_id BIGINT NOT NULL REFERENCES posts(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (user_id, post_id)
+);
+CREATE INDEX IF NOT EXISTS idx_home_timeline_user_created ON home_timeline(user_id, created_at DESC, post_id DESC);
@@ -0,0 +1,25 @@
+-- Pooled id sequences (INCREMENT BY = Hibernate allocationSize 50) so inserts can be JDBC-batched.
+-- Each sequence starts above the current max id; the old BIGSERIAL defaults stay for manual inserts.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS client_profiles_seq INCREMENT BY 50;
+SELECT setval('client_profiles_seq', COALESCE((SELECT MAX(id) FROM client_profiles), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS freelancer_profiles_seq INCREMENT BY 50;
+SELECT setval('freelancer_profiles_seq', COALESCE((SELECT MAX(id) FROM freelancer_profiles), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS jobs_seq INCREMENT BY 50;
+SELECT setval('jobs_seq', COALESCE((SELECT MAX(id) FROM jobs), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS portfolio_items_seq INCREMENT BY 50;
+SELECT setval('portfolio_items_seq', COALESCE((SELECT MAX(id) FROM portfolio_items), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS posts_seq INCREMENT BY 50;
+SELECT setval('posts_seq', COALESCE((SELECT MAX(id) FROM posts), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS post_media_seq INCREMENT BY 50;
+SELECT setval('post_media_seq', COALESCE((SELECT MAX(id) FROM post_media), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS post_likes_seq INCREMENT BY 50;
+SELECT setval('post_likes_seq', COALESCE((SELECT MAX(id) FROM post_likes), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS social_follow_seq INCREMENT BY 50;
+SELECT setval('social_follow_seq', COALESCE((SELECT MAX(id) FROM social_follow), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS password_reset_tokens_seq INCREMENT BY 50;
+SELECT setval('password_reset_tokens_seq', COALESCE((SELECT MAX(id) FROM password_reset_tokens), 0) + 1);
+CREATE SEQUENCE IF NOT EXISTS contact_links_seq INCREMENT BY 50;
+SELECT setval('contact_links_seq', COALESCE((SELECT MAX(id) FROM contact_links), 0) + 1);
@@ -0,0 +1,2 @@
+-- Profile timelines: keyset scans of one author's posts, newest first
+CREATE INDEX IF NOT EXISTS idx_posts_author_created_at ON posts(author_id, created_at DESC, id DESC);
@@ -0,0 +1,9 @@
+-- Denormalized social counters maintained alongside follow/unfollow/createPost
+ALTER TABLE users ADD COLUMN IF NOT EXISTS follower_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS following_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS post_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE users u SET
+    follower_count = (SELECT count(*) FROM social_follow f WHERE f.target_id = u.id),
+    following_count = (SELECT count(*) FROM social_follow f WHERE f.follower_id = u.id),
+    post_count = (SELECT count(*) FROM posts p WHERE p.author_id = u.id);
@@ -0,0 +1,115 @@
+package com.gigmework.backend;
+
+import com.gigmework.backend.domain.MediaType;
+import com.gigmework.backend.domain.UserAccount;
+import com.gigmework.backend.domain.UserRole;
+import com.gigmework.backend.repo.UserAccountRepository;
+import com.gigmework.backend.service.PostService;
+import com.gigmework.backend.service.PostService.MediaSpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Counts statement executions (JDBC round-trips) on the test thread to verify insert batching. */
+@SpringBootTest
+class JdbcBatchingTest {
+
+    @Autowired PostService postService;
+    @Autowired UserAccountRepository users;
+
+    @Test
+    void multiMediaPostDoesNotCostOneRoundTripPerMedia() {
+        UserAccount author = users.save(new UserAccount("batch-author@example.dev", "password", UserRole.FREELANCER));
+        postService.createPost(author.getId(), "warm-up", media(1)); // first use of each sequence allocates a block
+
+        int single = RoundTrips.count(() -> postService.createPost(author.getId(), "one", media(1)));
+        int many = RoundTrips.count(() -> postService.createPost(author.getId(), "twenty", media(20)));
+
+        assertThat(single).isPositive();
+        assertThat(many).isLessThanOrEqualTo(single + 1); // +1: a new post_media id block may be fetched
+        assertThat(many).isLessThan(20);
+    }
+
+    @Test
+    void seedBatchOf500UsersIsInsertedInJdbcBatches() {
+        List<UserAccount> batch = new ArrayList<>(500);
+        IntStream.range(0, 500).forEach(i -> batch.add(new UserAccount("batch" + i + "@example.dev", "password", UserRole.FREELANCER)));
+
+        int trips = RoundTrips.count(() -> users.saveAll(batch));
+
+        // 500 / 50 = 10 insert batches plus ~10 sequence calls, instead of 500 single-row inserts
+        assertThat(trips).isPositive().isLessThanOrEqualTo(25);
+        assertThat(batch).allMatch(u -> u.getId() != null);
+    }
+
+    private static List<MediaSpec> media(int n) {
+        return IntStream.range(0, n)
+                .mapToObj(i -> new MediaSpec("https://cdn.example.dev/" + i + ".jpg", MediaType.IMAGE, 400, 300, null, null))
+                .toList();
+    }
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ds ? RoundTrips.wrap(ds, DataSource.class) : bean;
+                }
+            };
+        }
+    }
+
+    static final class RoundTrips {
+        private static volatile Thread tracked;
+        private static final AtomicInteger executions = new AtomicInteger();
+
+        static int count(Supplier<?> work) {
+            executions.set(0);
+            tracked = Thread.currentThread();
+            try {
+                work.get();
+            } finally {
+                tracked = null;
+            }
+            return executions.get();
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> T wrap(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (target instanceof Statement && method.getName().startsWith("execute") && Thread.currentThread() == tracked) {
+                    executions.incrementAndGet();
+                }
+                Class<?> returned = method.getReturnType();
+                if (result != null && (returned == Connection.class || Statement.class.isAssignableFrom(returned))) {
+                    return wrap(result, (Class<Object>) returned);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.gigmework.backend;
+
+import com.gigmework.backend.domain.Job;
+import com.gigmework.backend.domain.JobStatus;
+import com.gigmework.backend.domain.UserAccount;
+import com.gigmework.backend.domain.UserRole;
+import com.gigmework.backend.repo.JobRepository;
+import com.gigmework.backend.repo.UserAccountRepository;
+import com.gigmework.backend.service.JobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Fires many simultaneous applications at one open job: exactly one may win, everyone else is refused. */
+@SpringBootTest
+class JobAssignmentConcurrencyTest {
+    private static final int APPLICANTS = 300;
+
+    @Autowired JobService jobService;
+    @Autowired JobRepository jobs;
+    @Autowired UserAccountRepository users;
+
+    @Test
+    void parallelAppliesAssignTheJobExactlyOnce() throws Exception {
+        Job job = jobs.save(new Job("Contended job", "everyone wants it", null, 100_00L));
+        List<UserAccount> applicants = users.saveAll(IntStream.range(0, APPLICANTS)
+                .mapToObj(i -> new UserAccount("applicant" + i + "@example.dev", "password", UserRole.FREELANCER))
+                .toList());
+
+        AtomicInteger won = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        ConcurrentLinkedQueue<Long> winners = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        List<Future<?>> futures = new ArrayList<>();
+        for (UserAccount applicant : applicants) {
+            futures.add(pool.submit(() -> {
+                try {
+                    start.await();
+                    jobService.applyForJob(job.getId(), applicant);
+                    won.incrementAndGet();
+                    winners.add(applicant.getId());
+                } catch (IllegalStateException e) {
+                    refused.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(won.get()).isEqualTo(1);
+        assertThat(refused.get()).isEqualTo(APPLICANTS - 1);
+
+        Job stored = jobs.findWithUsersById(job.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(JobStatus.ASSIGNED);
+        assertThat(stored.getAssignedFreelancer().getId()).isEqualTo(winners.peek());
+        assertThat(stored.getVersion()).isEqualTo(job.getVersion() + 1);
+    }
+}
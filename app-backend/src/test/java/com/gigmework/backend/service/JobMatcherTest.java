@@ -0,0 +1,141 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.domain.JobStatus;
+import com.gigmework.backend.event.FreelancerProfileChangedEvent;
+import com.gigmework.backend.event.JobChangedEvent;
+import com.gigmework.backend.repo.FreelancerProfileRepository;
+import com.gigmework.backend.repo.JobRepository;
+import com.gigmework.backend.service.JobMatcher.Recommendation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** Matcher index maintenance against stubbed repositories; updates run inline instead of on the matcher thread. */
+class JobMatcherTest {
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final JobRepository jobs = mock(JobRepository.class);
+    private final FreelancerProfileRepository profiles = mock(FreelancerProfileRepository.class);
+    private final List<Object[]> profileRows = new ArrayList<>();
+    private final List<Object[]> jobRows = new ArrayList<>();
+    private JobMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        when(profiles.findSearchFieldsAfter(anyLong(), any())).thenReturn(profileRows);
+        when(jobs.findMatchFieldsAfter(eq(JobStatus.OPEN), anyLong(), any())).thenReturn(jobRows);
+        when(jobs.findMatchFieldsById(eq(JobStatus.OPEN), anyLong())).thenReturn(List.of());
+        when(profiles.findSearchFieldsByUserId(anyLong())).thenReturn(List.of());
+    }
+
+    @Test
+    void recommendRanksByJaccardAndPadsWithNewestJobs() {
+        profile(1, "Flutter, Dart");
+        job(10, "Flutter app", 1);
+        job(11, "Flutter and Dart developer", 2);
+        job(12, "Bookkeeping", 3);
+        job(13, "Tax return", 4);
+        load(10);
+
+        List<Recommendation> recs = matcher.recommend(1, 4);
+        assertThat(recs).extracting(Recommendation::jobId).containsExactly(11L, 10L, 13L, 12L);
+        assertThat(recs).extracting(Recommendation::score).containsExactly(1.0, 0.5, 0.0, 0.0);
+        assertThat(matcher.recommend(1, 1)).extracting(Recommendation::jobId).containsExactly(11L);
+        // no skills at all: only padding
+        assertThat(matcher.recommend(99, 2)).extracting(Recommendation::jobId).containsExactly(13L, 12L);
+    }
+
+    @Test
+    void matchesMultiWordTermsAndTermsBeyondTheFirstBitsetWord() {
+        profile(1, "Spring Boot");
+        String many = String.join(",", IntStream.range(0, 70).mapToObj(i -> "skill" + i).toList());
+        profile(2, many);
+        job(10, "Spring Boot migration", 1);
+        job(11, "Spring cleaning", 2);
+        job(12, "Needs skill69 urgently", 3);
+        load(10);
+
+        assertThat(matcher.recommend(1, 1)).extracting(Recommendation::jobId, Recommendation::score).containsExactly(tuple(10L, 1.0));
+        Recommendation top = matcher.recommend(2, 1).get(0);
+        assertThat(top.jobId()).isEqualTo(12L);
+        assertThat(top.score()).isEqualTo(1.0 / 70);
+    }
+
+    @Test
+    void offerMergesANewJobIntoTheTopList() {
+        profile(1, "Flutter, Dart");
+        job(10, "Flutter app", 1);
+        job(11, "Flutter and Dart developer", 2);
+        load(2);
+
+        when(jobs.findMatchFieldsById(JobStatus.OPEN, 12L)).thenReturn(List.<Object[]>of(row(12, "Dart tooling", 3)));
+        matcher.onJobChanged(new JobChangedEvent(12L, null));
+
+        // 12 ties with 10 at 0.5 and is newer; 10 falls out of a full top-2
+        assertThat(matcher.recommend(1, 2)).extracting(Recommendation::jobId, Recommendation::score)
+                .containsExactly(tuple(11L, 1.0), tuple(12L, 0.5));
+    }
+
+    @Test
+    void assignedJobIsRemovedAndTheListRecomputed() {
+        profile(1, "Flutter, Dart");
+        job(10, "Flutter app", 1);
+        job(11, "Flutter and Dart developer", 2);
+        job(12, "Dart tooling", 3);
+        load(2);
+        assertThat(matcher.recommend(1, 2)).extracting(Recommendation::jobId).containsExactly(11L, 12L);
+
+        // job 11 is assigned: no longer OPEN, so findMatchFieldsById finds nothing
+        matcher.onJobChanged(new JobChangedEvent(11L, 7L));
+
+        assertThat(matcher.recommend(1, 3)).extracting(Recommendation::jobId, Recommendation::score)
+                .containsExactly(tuple(12L, 0.5), tuple(10L, 0.5));
+        assertThat(matcher.recommend(2, 5)).extracting(Recommendation::jobId).doesNotContain(11L);
+    }
+
+    @Test
+    void profileChangeAddingATermRescansOpenJobs() {
+        profile(1, "Flutter");
+        job(10, "Kotlin backend service", 1);
+        load(10);
+        assertThat(matcher.recommend(2, 1)).extracting(Recommendation::score).containsExactly(0.0);
+
+        when(profiles.findSearchFieldsByUserId(2L)).thenReturn(List.<Object[]>of(profileRow(2, "Kotlin")));
+        matcher.onProfileChanged(new FreelancerProfileChangedEvent(2L));
+
+        assertThat(matcher.recommend(2, 1)).extracting(Recommendation::jobId, Recommendation::score).containsExactly(tuple(10L, 1.0));
+        // skills removed: back to padding only
+        when(profiles.findSearchFieldsByUserId(2L)).thenReturn(List.of());
+        matcher.onProfileChanged(new FreelancerProfileChangedEvent(2L));
+        assertThat(matcher.recommend(2, 1)).extracting(Recommendation::score).containsExactly(0.0);
+    }
+
+    private void load(int topK) {
+        matcher = new JobMatcher(jobs, profiles, topK, Runnable::run);
+        matcher.load();
+    }
+
+    private void profile(long userId, String skillsCsv) { profileRows.add(profileRow(userId, skillsCsv)); }
+
+    private void job(long id, String title, int minutes) { jobRows.add(row(id, title, minutes)); }
+
+    // [id, userId, displayName, professionalTitle, skillsCsv]
+    private static Object[] profileRow(long userId, String skillsCsv) {
+        return new Object[]{userId, userId, "User " + userId, null, skillsCsv};
+    }
+
+    // [id, title, description, budgetCents, clientEmail, createdAt]
+    private static Object[] row(long id, String title, int minutes) {
+        return new Object[]{id, title, null, 100_00L, "client@example.dev", T0.plusSeconds(60L * minutes)};
+    }
+}
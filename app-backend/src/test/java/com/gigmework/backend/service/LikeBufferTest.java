@@ -0,0 +1,163 @@
+package com.gigmework.backend.service;
+
+import com.gigmework.backend.repo.PostLikeRepository;
+import com.gigmework.backend.repo.PostRepository;
+import com.gigmework.backend.repo.SocialFollowRepository;
+import com.gigmework.backend.repo.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/** Write-behind like pipeline against stubbed repositories; {@code likes} plays the committed post_likes table. */
+class LikeBufferTest {
+    private final PostLikeRepository likeRepo = mock(PostLikeRepository.class);
+    private final PostRepository postRepo = mock(PostRepository.class);
+    private final UserAccountRepository userRepo = mock(UserAccountRepository.class);
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private final List<Object[]> likes = new CopyOnWriteArrayList<>(); // [likeId, postId, userId]
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor();
+    private ExistenceFilters filters;
+    private String pauseIn; // "read" or "insert": where the next flush blocks
+    private CountDownLatch writing;
+    private CountDownLatch release;
+    private LikeBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(postRepo.existsById(anyLong())).thenReturn(true);
+        when(userRepo.existsById(anyLong())).thenReturn(true);
+        when(likeRepo.existsByPostIdAndUserId(anyLong(), anyLong()))
+                .thenAnswer(inv -> likes.stream().anyMatch(r -> r[1].equals(inv.getArgument(0)) && r[2].equals(inv.getArgument(1))));
+        when(likeRepo.countByPostId(anyLong())).thenAnswer(inv -> likes.stream().filter(r -> r[1].equals(inv.getArgument(0))).count());
+        when(likeRepo.findLikesAmong(any(), any())).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>(likes);
+            pause("read");
+            return rows;
+        });
+        // "commit" the batch as soon as it is written; the flush is still running until release
+        when(likeRepo.saveAll(anyList())).thenAnswer(inv -> {
+            List<?> rows = inv.getArgument(0);
+            rows.forEach(r -> likes.add(new Object[]{(long) likes.size() + 100, 1L, 2L}));
+            pause("insert");
+            return rows;
+        });
+        doAnswer(inv -> likes.removeIf(r -> ((List<?>) inv.getArgument(0)).contains(r[0])))
+                .when(likeRepo).deleteAllByIdInBatch(anyList());
+
+        filters = new ExistenceFilters(mock(SocialFollowRepository.class), likeRepo,
+                new SimpleMeterRegistry(), 0.01, 1000, 60_000);
+        buffer = new LikeBuffer(likeRepo, postRepo, userRepo, txManager, mock(ApplicationEventPublisher.class), filters, 500, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flusher.shutdownNow();
+        buffer.shutdown();
+    }
+
+    @Test
+    void repeatedLikesCountOnce() {
+        buffer.like(1, 2);
+        buffer.like(1, 2);
+        assertThat(buffer.likeCount(1)).isEqualTo(1);
+        buffer.flush();
+        buffer.like(1, 2);
+        assertThat(likes).hasSize(1);
+        assertThat(buffer.likeCount(1)).isEqualTo(1);
+        assertThat(buffer.likedBy(1, 2)).isTrue();
+    }
+
+    @Test
+    void unlikeWhileTheLikeIsBeingWrittenIsKept() throws Exception {
+        buffer.like(1, 2);
+        Future<?> flush = flushBlockedIn("read");
+
+        buffer.unlike(1, 2);
+        assertThat(buffer.likedBy(1, 2)).isFalse();
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        assertThat(likes).hasSize(1);
+
+        pauseIn = null;
+        buffer.flush();
+        assertThat(likes).isEmpty();
+        assertThat(buffer.likeCount(1)).isZero();
+        assertThat(buffer.likedBy(1, 2)).isFalse();
+    }
+
+    @Test
+    void likeAgainWhileTheUnlikeIsBeingWrittenIsKept() throws Exception {
+        likes.add(new Object[]{7L, 1L, 2L});
+        buffer.unlike(1, 2);
+        Future<?> flush = flushBlockedIn("read");
+
+        buffer.like(1, 2);
+        assertThat(buffer.likedBy(1, 2)).isTrue();
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        assertThat(likes).isEmpty();
+
+        pauseIn = null;
+        buffer.flush();
+        assertThat(likes).hasSize(1);
+        assertThat(buffer.likeCount(1)).isEqualTo(1);
+        assertThat(buffer.likedBy(1, 2)).isTrue();
+    }
+
+    @Test
+    void unlikeOfALikeTheFilterHasNotSeenIsWritten() {
+        filters.rebuild(); // from an empty table
+        likes.add(new Object[]{7L, 1L, 2L}); // liked through another instance
+
+        buffer.unlike(1, 2);
+        buffer.flush();
+        assertThat(likes).isEmpty();
+        verify(likeRepo).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    void countReadBetweenCommitAndSettleIsNotAppliedTwice() throws Exception {
+        assertThat(buffer.likeCount(1)).isZero();
+        buffer.like(1, 2);
+        Future<?> flush = flushBlockedIn("insert");
+
+        // a feed page reads post_likes after the insert, before the flush settles
+        long stamp = buffer.readStamp();
+        buffer.overlay(1, null, new PostService.LikeStats(likes.size(), false), stamp);
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+
+        assertThat(buffer.likeCount(1)).isEqualTo(1);
+        long after = buffer.readStamp();
+        assertThat(buffer.overlay(1, null, new PostService.LikeStats(likes.size(), false), after).count()).isEqualTo(1);
+        assertThat(buffer.likeCount(1)).isEqualTo(1);
+    }
+
+    private void pause(String where) throws InterruptedException {
+        if (!where.equals(pauseIn)) return;
+        writing.countDown();
+        release.await(5, TimeUnit.SECONDS);
+    }
+
+    private Future<?> flushBlockedIn(String where) throws InterruptedException {
+        pauseIn = where;
+        writing = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        Future<?> flush = flusher.submit(buffer::flush);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        return flush;
+    }
+}